@@ -25,6 +25,7 @@ import net.minecraft.resource.ResourceManager;
 
 import net.fabricmc.fabric.api.event.Event;
 import net.fabricmc.fabric.api.event.EventFactory;
+import net.fabricmc.fabric.impl.loot.v2.LootInitializer;
 
 /**
  * Events for manipulating loot tables.
@@ -92,7 +93,7 @@ public final class LootTableEvents {
 	 * @deprecated Please use {@link net.fabricmc.fabric.api.loot.v3.LootTableEvents#MODIFY} instead.
 	 */
 	@Deprecated
-	public static final Event<Modify> MODIFY = EventFactory.createArrayBacked(Modify.class, listeners -> (key, tableBuilder, source) -> {
+	public static final Event<Modify> MODIFY = EventFactory.createArrayBacked(Modify.class, LootInitializer.EMPTY_MODIFY, listeners -> (key, tableBuilder, source) -> {
 		for (Modify listener : listeners) {
 			listener.modifyLootTable(key, tableBuilder, source);
 		}
@@ -16,16 +16,36 @@
 
 package net.fabricmc.fabric.impl.loot.v2;
 
+import net.minecraft.loot.LootTable;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryWrapper;
+
 import net.fabricmc.api.ModInitializer;
 import net.fabricmc.fabric.api.loot.v3.LootTableEvents;
 import net.fabricmc.fabric.api.loot.v3.LootTableSource;
 
 public class LootInitializer implements ModInitializer {
+	/**
+	 * The invoker of the v2 {@link net.fabricmc.fabric.api.loot.v2.LootTableEvents#MODIFY} event while it has no listeners.
+	 */
+	public static final net.fabricmc.fabric.api.loot.v2.LootTableEvents.Modify EMPTY_MODIFY = (key, tableBuilder, source) -> { };
+
 	@Override
 	public void onInitialize() {
 		// Forward the events to the v2 API.
 		LootTableEvents.REPLACE.register(((key, original, source, registries) -> net.fabricmc.fabric.api.loot.v2.LootTableEvents.REPLACE.invoker().replaceLootTable(key, original, toV2Source(source))));
-		LootTableEvents.MODIFY.register((key, tableBuilder, source, registries) -> net.fabricmc.fabric.api.loot.v2.LootTableEvents.MODIFY.invoker().modifyLootTable(key, tableBuilder, toV2Source(source)));
+		LootTableEvents.MODIFY.register(new LootTableEvents.Modify() {
+			@Override
+			public void modifyLootTable(RegistryKey<LootTable> key, LootTable.Builder tableBuilder, LootTableSource source, RegistryWrapper.WrapperLookup registries) {
+				net.fabricmc.fabric.api.loot.v2.LootTableEvents.MODIFY.invoker().modifyLootTable(key, tableBuilder, toV2Source(source));
+			}
+
+			@Override
+			public boolean modifiesLootTable(RegistryKey<LootTable> key) {
+				// Don't make every loot table get rebuilt when nobody listens to the v2 event.
+				return net.fabricmc.fabric.api.loot.v2.LootTableEvents.MODIFY.invoker() != EMPTY_MODIFY;
+			}
+		});
 		LootTableEvents.ALL_LOADED.register((resourceManager, lootRegistry) -> net.fabricmc.fabric.api.loot.v2.LootTableEvents.ALL_LOADED.invoker().onLootTablesLoaded(resourceManager, lootRegistry));
 	}
 
@@ -20,6 +20,7 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import com.mojang.serialization.Codec;
+import io.netty.buffer.ByteBuf;
 import org.jetbrains.annotations.ApiStatus;
 
 import net.minecraft.network.RegistryByteBuf;
@@ -126,6 +127,31 @@ public final class AttachmentRegistry {
 		 */
 		Builder<A> persistent(Codec<A> codec);
 
+		/**
+		 * Declares that attachments should be saved in a compact binary form, using the provided {@link PacketCodec}.
+		 * This is faster to save and load than going through the {@link Codec} passed to {@link #persistent(Codec)},
+		 * which is still required: it is used to read data saved before the binary codec was added,
+		 * and to save data when binary persistence is disabled with the {@code fabric.attachment.disableBinaryPersistence}
+		 * system property.
+		 *
+		 * <p>The binary format of an attachment type must stay compatible across versions of the mod defining it,
+		 * as changing it will make previously saved data unreadable.
+		 *
+		 * <p>The codec only gets a plain {@link ByteBuf}, without access to the registries. It must not write
+		 * raw registry IDs (for example through {@code PacketCodecs.entryOf}),
+		 * as those are not stable across game versions, mod sets or data packs. Registry entries should be written
+		 * by identifier instead, and types holding registry-dependent data such as item stacks should only
+		 * use {@link #persistent(Codec)}.
+		 *
+		 * <p>Binary attachments are stored under a single {@code fabric:binary} entry, which versions of Fabric API
+		 * without binary persistence do not understand and drop. Worlds that must stay loadable by such versions
+		 * should be saved with binary persistence disabled.
+		 *
+		 * @param packetCodec the codec used to (de)serialize the attachment data to and from disk
+		 * @return the builder
+		 */
+		Builder<A> persistentBinary(PacketCodec<? super ByteBuf, A> packetCodec);
+
 		/**
 		 * Declares that when a player dies and respawns, the attachments of this type should remain.
 		 *
@@ -133,6 +159,18 @@ public final class AttachmentRegistry {
 		 */
 		Builder<A> copyOnDeath();
 
+		/**
+		 * Declares that values of this attachment type are never modified in place, for example because they are
+		 * immutable records. A value is then only saved again after it was {@linkplain AttachmentTarget#setAttached set}
+		 * or removed, which makes saving worlds holding large attachments cheaper.
+		 *
+		 * <p>Changes made to a value without setting it again may not be saved for attachment types declared like this.
+		 * This currently only applies to world attachments.
+		 *
+		 * @return the builder
+		 */
+		Builder<A> immutable();
+
 		/**
 		 * Sets the default initializer for this attachment type. The initializer will be called by
 		 * {@link AttachmentTarget#getAttachedOrCreate(AttachmentType)} to automatically initialize attachments that
@@ -159,6 +197,21 @@ public final class AttachmentRegistry {
 		 */
 		AttachmentRegistry.Builder<A> syncWith(PacketCodec<? super RegistryByteBuf, A> packetCodec, AttachmentSyncPredicate syncPredicate);
 
+		/**
+		 * Declares that synchronization of this attachment type should be batched, instead of happening
+		 * every time an attachment is {@linkplain AttachmentTarget#setAttached set}.
+		 *
+		 * <p>Changes are recorded, then encoded and sent at the end of the server tick, together with other batched changes
+		 * going to the same client. If an attachment is changed several times before it is synchronized, only its latest value
+		 * is sent. An attachment is synchronized at most once every {@code interval} ticks on a given target.
+		 *
+		 * <p>This has no effect unless the attachment type is synchronized with {@link #syncWith}.
+		 *
+		 * @param interval the number of ticks changes are collected for before being synchronized, at least 1
+		 * @return the builder
+		 */
+		AttachmentRegistry.Builder<A> syncBatched(int interval);
+
 		/**
 		 * Builds and registers the {@link AttachmentType}.
 		 *
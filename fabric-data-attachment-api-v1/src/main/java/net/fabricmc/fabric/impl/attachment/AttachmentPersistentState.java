@@ -16,25 +16,40 @@
 
 package net.fabricmc.fabric.impl.attachment;
 
+import java.util.Map;
+import java.util.Set;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.nbt.NbtCompound;
+import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.server.world.ServerWorld;
+import net.minecraft.util.Identifier;
 import net.minecraft.world.PersistentState;
 
+import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
+
 /**
  * Backing storage for server-side world attachments.
- * Thanks to custom {@link #isDirty()} logic, the file is only written if something needs to be persisted.
+ * Thanks to custom {@link #isDirty()} logic, the file is only written if an attachment changed.
+ *
+ * <p>Changes are tracked per attachment type: on save, only the types that changed since the last save are encoded
+ * again, the others reuse their previous encoding. Values that could have been modified in place without being set
+ * again are always encoded again, like before, unless their type was declared
+ * {@linkplain net.fabricmc.fabric.api.attachment.v1.AttachmentRegistry.Builder#immutable() immutable}, see {@link #canReuseEncoding}.
  */
 public class AttachmentPersistentState extends PersistentState {
 	public static final String ID = "fabric_attachments";
 	private final AttachmentTargetImpl worldTarget;
-	private final boolean wasSerialized;
+	private final Map<AttachmentType<?>, AttachmentSerializingImpl.EncodedAttachment> encoded = new Reference2ObjectOpenHashMap<>();
+	private final Set<AttachmentType<?>> changed = new ReferenceOpenHashSet<>();
 
 	public AttachmentPersistentState(ServerWorld world) {
 		this.worldTarget = (AttachmentTargetImpl) world;
-		this.wasSerialized = worldTarget.fabric_hasPersistentAttachments();
+		worldTarget.fabric_setPersistentState(this);
 	}
 
 	public static AttachmentPersistentState read(ServerWorld world, @Nullable NbtCompound nbt, RegistryWrapper.WrapperLookup wrapperLookup) {
@@ -42,15 +57,71 @@ public class AttachmentPersistentState extends PersistentState {
 		return new AttachmentPersistentState(world);
 	}
 
+	/**
+	 * Called when an attachment of the world is set or removed.
+	 */
+	public void markChanged(AttachmentType<?> type) {
+		if (type.isPersistent()) {
+			changed.add(type);
+		}
+	}
+
 	@Override
 	public boolean isDirty() {
-		// Only write data if there are attachments, or if we previously wrote data.
-		return wasSerialized || worldTarget.fabric_hasPersistentAttachments();
+		if (super.isDirty() || !changed.isEmpty()) {
+			return true;
+		}
+
+		Map<AttachmentType<?>, ?> attachments = worldTarget.fabric_getAttachments();
+
+		if (attachments != null) {
+			for (Map.Entry<AttachmentType<?>, ?> entry : attachments.entrySet()) {
+				if (entry.getKey().isPersistent() && !canReuseEncoding(entry.getKey(), entry.getValue())) {
+					return true;
+				}
+			}
+		}
+
+		return false;
 	}
 
 	@Override
 	public NbtCompound writeNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup wrapperLookup) {
-		worldTarget.fabric_writeAttachmentsToNbt(nbt, wrapperLookup);
+		Map<AttachmentType<?>, ?> attachments = worldTarget.fabric_getAttachments();
+
+		if (attachments == null) {
+			encoded.clear();
+		} else {
+			encoded.keySet().removeIf(type -> changed.contains(type) || !attachments.containsKey(type) || !canReuseEncoding(type, attachments.get(type)));
+		}
+
+		changed.clear();
+
+		if (attachments != null) {
+			for (Map.Entry<AttachmentType<?>, ?> entry : attachments.entrySet()) {
+				if (!encoded.containsKey(entry.getKey())) {
+					AttachmentSerializingImpl.EncodedAttachment attachment = AttachmentSerializingImpl.encodeAttachment(entry.getKey(), entry.getValue(), wrapperLookup);
+
+					if (attachment != null) {
+						encoded.put(entry.getKey(), attachment);
+					}
+				}
+			}
+		}
+
+		AttachmentSerializingImpl.writeEncodedAttachments(nbt, encoded);
 		return nbt;
 	}
+
+	/**
+	 * Attachments are only marked as changed when they are set, so only values that can't be modified in place
+	 * can safely reuse their previous encoding: values of types declared immutable, and well-known immutable values.
+	 * Any other value is encoded again on every save.
+	 */
+	private static boolean canReuseEncoding(AttachmentType<?> type, Object value) {
+		return ((AttachmentTypeImpl<?>) type).immutable()
+				|| value instanceof Boolean || value instanceof Integer || value instanceof Long || value instanceof Float
+				|| value instanceof Double || value instanceof Short || value instanceof Byte || value instanceof Character
+				|| value instanceof String || value instanceof Enum<?> || value instanceof Identifier || value instanceof RegistryKey<?>;
+	}
 }
@@ -25,6 +25,7 @@ import java.util.Set;
 import java.util.function.Supplier;
 
 import com.mojang.serialization.Codec;
+import io.netty.buffer.ByteBuf;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -43,6 +44,7 @@ public final class AttachmentRegistryImpl {
 	private static final Map<Identifier, AttachmentType<?>> attachmentRegistry = new HashMap<>();
 	private static final Set<Identifier> syncableAttachments = new HashSet<>();
 	private static final Set<Identifier> syncableView = Collections.unmodifiableSet(syncableAttachments);
+	private static int nextSlot = 0;
 
 	public static <A> void register(Identifier id, AttachmentType<A> attachmentType) {
 		AttachmentType<?> existing = attachmentRegistry.put(id, attachmentType);
@@ -61,6 +63,13 @@ public final class AttachmentRegistryImpl {
 		}
 	}
 
+	/**
+	 * Assigns a dense index to each attachment type, used to look up attachments in {@link AttachmentStorage}.
+	 */
+	private static synchronized int nextSlot() {
+		return nextSlot++;
+	}
+
 	@Nullable
 	public static AttachmentType<?> get(Identifier id) {
 		return attachmentRegistry.get(id);
@@ -80,10 +89,14 @@ public final class AttachmentRegistryImpl {
 		@Nullable
 		private Codec<A> persistenceCodec = null;
 		@Nullable
+		private PacketCodec<? super ByteBuf, A> binaryPersistenceCodec = null;
+		@Nullable
 		private PacketCodec<? super RegistryByteBuf, A> packetCodec = null;
 		@Nullable
 		private AttachmentSyncPredicate syncPredicate = null;
+		private int syncInterval = 0;
 		private boolean copyOnDeath = false;
+		private boolean immutable = false;
 
 		@Override
 		public AttachmentRegistry.Builder<A> persistent(Codec<A> codec) {
@@ -93,12 +106,26 @@ public final class AttachmentRegistryImpl {
 			return this;
 		}
 
+		@Override
+		public AttachmentRegistry.Builder<A> persistentBinary(PacketCodec<? super ByteBuf, A> packetCodec) {
+			Objects.requireNonNull(packetCodec, "packet codec cannot be null");
+
+			this.binaryPersistenceCodec = packetCodec;
+			return this;
+		}
+
 		@Override
 		public AttachmentRegistry.Builder<A> copyOnDeath() {
 			this.copyOnDeath = true;
 			return this;
 		}
 
+		@Override
+		public AttachmentRegistry.Builder<A> immutable() {
+			this.immutable = true;
+			return this;
+		}
+
 		@Override
 		public AttachmentRegistry.Builder<A> initializer(Supplier<A> initializer) {
 			Objects.requireNonNull(initializer, "initializer cannot be null");
@@ -117,6 +144,16 @@ public final class AttachmentRegistryImpl {
 			return this;
 		}
 
+		@Override
+		public AttachmentRegistry.Builder<A> syncBatched(int interval) {
+			if (interval < 1) {
+				throw new IllegalArgumentException("sync interval must be at least 1 tick, was " + interval);
+			}
+
+			this.syncInterval = interval;
+			return this;
+		}
+
 		@Override
 		public AttachmentType<A> buildAndRegister(Identifier id) {
 			Objects.requireNonNull(id, "identifier cannot be null");
@@ -130,13 +167,21 @@ public final class AttachmentRegistryImpl {
 				);
 			}
 
+			if (binaryPersistenceCodec != null && persistenceCodec == null) {
+				throw new IllegalStateException("Attachment type %s has a binary persistence codec but is not persistent".formatted(id));
+			}
+
 			var attachment = new AttachmentTypeImpl<>(
 					id,
 					defaultInitializer,
 					persistenceCodec,
+					binaryPersistenceCodec,
 					packetCodec,
 					syncPredicate,
-					copyOnDeath
+					syncInterval,
+					copyOnDeath,
+					immutable,
+					nextSlot()
 			);
 			register(id, attachment);
 			return attachment;
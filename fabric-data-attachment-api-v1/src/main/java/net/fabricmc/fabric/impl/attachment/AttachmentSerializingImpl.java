@@ -18,8 +18,12 @@ package net.fabricmc.fabric.impl.attachment;
 
 import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import com.mojang.serialization.Codec;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +31,8 @@ import org.slf4j.LoggerFactory;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtElement;
 import net.minecraft.nbt.NbtOps;
+import net.minecraft.network.PacketByteBuf;
+import net.minecraft.network.codec.PacketCodec;
 import net.minecraft.registry.RegistryOps;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.util.Identifier;
@@ -35,41 +41,205 @@ import net.fabricmc.fabric.api.attachment.v1.AttachmentTarget;
 import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
 
 public class AttachmentSerializingImpl {
+	/**
+	 * Key of the blob holding all attachments with a binary persistence codec, inside the attachment compound.
+	 */
+	public static final String BINARY_KEY = "fabric:binary";
 	private static final Logger LOGGER = LoggerFactory.getLogger("fabric-data-attachment-api-v1");
+	private static final boolean DISABLE_BINARY_PERSISTENCE = Boolean.getBoolean("fabric.attachment.disableBinaryPersistence");
 
 	@SuppressWarnings("unchecked")
-	public static void serializeAttachmentData(NbtCompound nbt, RegistryWrapper.WrapperLookup wrapperLookup, @Nullable IdentityHashMap<AttachmentType<?>, ?> attachments) {
+	public static void serializeAttachmentData(NbtCompound nbt, RegistryWrapper.WrapperLookup wrapperLookup, @Nullable Map<AttachmentType<?>, ?> attachments) {
 		if (attachments == null || attachments.isEmpty()) {
 			return;
 		}
 
 		var compound = new NbtCompound();
+		PacketByteBuf binary = null;
 
 		for (Map.Entry<AttachmentType<?>, ?> entry : attachments.entrySet()) {
 			AttachmentType<?> type = entry.getKey();
 			Codec<Object> codec = (Codec<Object>) type.persistenceCodec();
 
-			if (codec != null) {
-				RegistryOps<NbtElement> registryOps = wrapperLookup.getOps(NbtOps.INSTANCE);
-				codec.encodeStart(registryOps, entry.getValue())
-						.ifError(partial -> {
-							LOGGER.warn("Couldn't serialize attachment {}, skipping. Error:", type.identifier());
-							LOGGER.warn(partial.message());
-						})
-						.ifSuccess(serialized -> compound.put(type.identifier().toString(), serialized));
+			if (codec == null) {
+				continue;
 			}
+
+			var binaryCodec = (PacketCodec<? super ByteBuf, Object>) ((AttachmentTypeImpl<?>) type).binaryPersistenceCodec();
+
+			if (binaryCodec != null && !DISABLE_BINARY_PERSISTENCE) {
+				if (binary == null) {
+					binary = new PacketByteBuf(Unpooled.buffer());
+				}
+
+				if (writeBinaryEntry(binary, type, binaryCodec, entry.getValue())) {
+					continue;
+				}
+			}
+
+			NbtElement serialized = encodeNbt(type, codec, entry.getValue(), wrapperLookup);
+
+			if (serialized != null) {
+				compound.put(type.identifier().toString(), serialized);
+			}
+		}
+
+		if (binary != null && binary.isReadable()) {
+			compound.putByteArray(BINARY_KEY, ByteBufUtil.getBytes(binary));
+		}
+
+		nbt.put(AttachmentTarget.NBT_ATTACHMENT_KEY, compound);
+	}
+
+	/**
+	 * Encodes a single attachment, so that the result can be kept and reused until the attachment changes.
+	 * Attachments with a binary persistence codec are encoded straight to bytes, without building an NBT tree.
+	 *
+	 * @return the encoded attachment, or {@code null} if it is not persistent or couldn't be encoded
+	 */
+	@SuppressWarnings("unchecked")
+	@Nullable
+	public static EncodedAttachment encodeAttachment(AttachmentType<?> type, Object value, RegistryWrapper.WrapperLookup wrapperLookup) {
+		Codec<Object> codec = (Codec<Object>) type.persistenceCodec();
+
+		if (codec == null) {
+			return null;
+		}
+
+		var binaryCodec = (PacketCodec<? super ByteBuf, Object>) ((AttachmentTypeImpl<?>) type).binaryPersistenceCodec();
+
+		if (binaryCodec != null && !DISABLE_BINARY_PERSISTENCE) {
+			var binary = new PacketByteBuf(Unpooled.buffer());
+
+			if (writeBinaryEntry(binary, type, binaryCodec, value)) {
+				return new EncodedAttachment(null, ByteBufUtil.getBytes(binary));
+			}
+		}
+
+		NbtElement serialized = encodeNbt(type, codec, value, wrapperLookup);
+		return serialized == null ? null : new EncodedAttachment(serialized, null);
+	}
+
+	/**
+	 * Writes previously encoded attachments, in the same format as {@link #serializeAttachmentData}.
+	 */
+	public static void writeEncodedAttachments(NbtCompound nbt, Map<AttachmentType<?>, EncodedAttachment> encoded) {
+		if (encoded.isEmpty()) {
+			return;
+		}
+
+		var compound = new NbtCompound();
+		int binaryLength = 0;
+
+		for (Map.Entry<AttachmentType<?>, EncodedAttachment> entry : encoded.entrySet()) {
+			EncodedAttachment attachment = entry.getValue();
+
+			if (attachment.nbt() != null) {
+				compound.put(entry.getKey().identifier().toString(), attachment.nbt().copy());
+			} else {
+				binaryLength += attachment.binary().length;
+			}
+		}
+
+		if (binaryLength > 0) {
+			byte[] binary = new byte[binaryLength];
+			int offset = 0;
+
+			for (EncodedAttachment attachment : encoded.values()) {
+				if (attachment.binary() != null) {
+					System.arraycopy(attachment.binary(), 0, binary, offset, attachment.binary().length);
+					offset += attachment.binary().length;
+				}
+			}
+
+			compound.putByteArray(BINARY_KEY, binary);
 		}
 
 		nbt.put(AttachmentTarget.NBT_ATTACHMENT_KEY, compound);
 	}
 
+	@Nullable
+	private static NbtElement encodeNbt(AttachmentType<?> type, Codec<Object> codec, Object value, RegistryWrapper.WrapperLookup wrapperLookup) {
+		RegistryOps<NbtElement> registryOps = wrapperLookup.getOps(NbtOps.INSTANCE);
+		return codec.encodeStart(registryOps, value)
+				.ifError(partial -> {
+					LOGGER.warn("Couldn't serialize attachment {}, skipping. Error:", type.identifier());
+					LOGGER.warn(partial.message());
+				})
+				.result()
+				.orElse(null);
+	}
+
+	/**
+	 * Appends an entry to the binary blob: the type's identifier, the length of the encoded value as a fixed-width int,
+	 * then the value itself. On failure, the buffer is rolled back so the attachment can be saved with its codec instead.
+	 */
+	private static boolean writeBinaryEntry(PacketByteBuf buf, AttachmentType<?> type, PacketCodec<? super ByteBuf, Object> codec, Object value) {
+		int start = buf.writerIndex();
+
+		try {
+			buf.writeIdentifier(type.identifier());
+			int lengthIndex = buf.writerIndex();
+			buf.writeInt(0);
+			codec.encode(buf, value);
+			buf.setInt(lengthIndex, buf.writerIndex() - lengthIndex - Integer.BYTES);
+			return true;
+		} catch (RuntimeException e) {
+			buf.writerIndex(start);
+			LOGGER.warn("Couldn't serialize attachment {} in binary form, falling back to its codec", type.identifier(), e);
+			return false;
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static void readBinaryEntries(byte[] data, Map<AttachmentType<?>, Object> attachments) {
+		var buf = new PacketByteBuf(Unpooled.wrappedBuffer(data));
+
+		try {
+			while (buf.isReadable()) {
+				Identifier id = buf.readIdentifier();
+				ByteBuf value = buf.readSlice(buf.readInt());
+				AttachmentType<?> type = AttachmentRegistryImpl.get(id);
+
+				if (type == null) {
+					LOGGER.warn("Unknown attachment type {} found when deserializing, skipping", id);
+					continue;
+				}
+
+				var codec = (PacketCodec<? super ByteBuf, Object>) ((AttachmentTypeImpl<?>) type).binaryPersistenceCodec();
+
+				if (codec == null) {
+					LOGGER.warn("Attachment type {} was saved in binary form but no longer has a binary codec, skipping", id);
+					continue;
+				}
+
+				try {
+					attachments.put(type, codec.decode(value));
+				} catch (RuntimeException e) {
+					LOGGER.warn("Couldn't deserialize attachment {}, skipping", id, e);
+				}
+			}
+		} catch (RuntimeException e) {
+			LOGGER.warn("Corrupted binary attachment data, skipping the remaining entries", e);
+		}
+	}
+
 	@Nullable
 	public static IdentityHashMap<AttachmentType<?>, Object> deserializeAttachmentData(NbtCompound nbt, RegistryWrapper.WrapperLookup wrapperLookup) {
+		return deserializeAttachmentData(nbt, wrapperLookup, IdentityHashMap::new);
+	}
+
+	@Nullable
+	public static <M extends Map<AttachmentType<?>, Object>> M deserializeAttachmentData(NbtCompound nbt, RegistryWrapper.WrapperLookup wrapperLookup, Supplier<M> mapFactory) {
 		if (nbt.contains(AttachmentTarget.NBT_ATTACHMENT_KEY, NbtElement.COMPOUND_TYPE)) {
-			var attachments = new IdentityHashMap<AttachmentType<?>, Object>();
+			M attachments = mapFactory.get();
 			NbtCompound compound = nbt.getCompound(AttachmentTarget.NBT_ATTACHMENT_KEY);
 
 			for (String key : compound.getKeys()) {
+				if (key.equals(BINARY_KEY)) {
+					continue;
+				}
+
 				AttachmentType<?> type = AttachmentRegistryImpl.get(Identifier.of(key));
 
 				if (type == null) {
@@ -92,6 +262,10 @@ public class AttachmentSerializingImpl {
 				}
 			}
 
+			if (compound.contains(BINARY_KEY, NbtElement.BYTE_ARRAY_TYPE)) {
+				readBinaryEntries(compound.getByteArray(BINARY_KEY), attachments);
+			}
+
 			if (attachments.isEmpty()) {
 				return null;
 			}
@@ -102,7 +276,7 @@ public class AttachmentSerializingImpl {
 		return null;
 	}
 
-	public static boolean hasPersistentAttachments(@Nullable IdentityHashMap<AttachmentType<?>, ?> map) {
+	public static boolean hasPersistentAttachments(@Nullable Map<AttachmentType<?>, ?> map) {
 		if (map == null) {
 			return false;
 		}
@@ -115,4 +289,10 @@ public class AttachmentSerializingImpl {
 
 		return false;
 	}
+
+	/**
+	 * An attachment encoded either as NBT, or as an entry of the binary blob.
+	 */
+	public record EncodedAttachment(@Nullable NbtElement nbt, byte @Nullable [] binary) {
+	}
 }
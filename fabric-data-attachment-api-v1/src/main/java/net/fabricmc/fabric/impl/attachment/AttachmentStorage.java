@@ -0,0 +1,239 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.attachment;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
+
+/**
+ * Compact map from attachment types to values, used as the per-target attachment storage.
+ *
+ * <p>This is an open-addressed table with linear probing, indexed by the dense {@linkplain AttachmentTypeImpl#slot() slot}
+ * of each attachment type. Targets usually only hold a few attachments, so the table starts small and lookups rarely
+ * need more than one probe.
+ */
+public final class AttachmentStorage<V> extends AbstractMap<AttachmentType<?>, V> {
+	private static final int INITIAL_CAPACITY = 4;
+
+	private AttachmentType<?>[] keys = new AttachmentType<?>[INITIAL_CAPACITY];
+	private Object[] values = new Object[INITIAL_CAPACITY];
+	private int size = 0;
+
+	public AttachmentStorage() {
+	}
+
+	public AttachmentStorage(Map<AttachmentType<?>, ? extends V> map) {
+		putAll(map);
+	}
+
+	private static int slot(AttachmentType<?> type) {
+		return ((AttachmentTypeImpl<?>) type).slot();
+	}
+
+	/**
+	 * @return the index of the type, or {@code -(insertion index + 1)} if it is absent
+	 */
+	private int indexOf(AttachmentType<?> type) {
+		int mask = keys.length - 1;
+		int index = slot(type) & mask;
+		AttachmentType<?> key;
+
+		while ((key = keys[index]) != null) {
+			if (key == type) {
+				return index;
+			}
+
+			index = (index + 1) & mask;
+		}
+
+		return -(index + 1);
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return key instanceof AttachmentTypeImpl<?> type && indexOf(type) >= 0;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	@Nullable
+	public V get(Object key) {
+		if (!(key instanceof AttachmentTypeImpl<?> type)) {
+			return null;
+		}
+
+		int index = indexOf(type);
+		return index >= 0 ? (V) values[index] : null;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	@Nullable
+	public V put(AttachmentType<?> type, V value) {
+		int index = indexOf(type);
+
+		if (index >= 0) {
+			V previous = (V) values[index];
+			values[index] = value;
+			return previous;
+		}
+
+		// Keep the load factor at or below 3/4.
+		if ((size + 1) * 4 > keys.length * 3) {
+			rehash(keys.length * 2);
+			index = indexOf(type);
+		}
+
+		index = -index - 1;
+		keys[index] = type;
+		values[index] = value;
+		size++;
+		return null;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	@Nullable
+	public V remove(Object key) {
+		if (!(key instanceof AttachmentTypeImpl<?> type)) {
+			return null;
+		}
+
+		int index = indexOf(type);
+
+		if (index < 0) {
+			return null;
+		}
+
+		V previous = (V) values[index];
+		size--;
+		shiftKeys(index);
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		keys = new AttachmentType<?>[INITIAL_CAPACITY];
+		values = new Object[INITIAL_CAPACITY];
+		size = 0;
+	}
+
+	/**
+	 * Fills the hole left by a removal by moving back the entries that probed past it.
+	 */
+	private void shiftKeys(int pos) {
+		int mask = keys.length - 1;
+
+		while (true) {
+			int last = pos;
+			pos = (pos + 1) & mask;
+			AttachmentType<?> current;
+
+			while (true) {
+				if ((current = keys[pos]) == null) {
+					keys[last] = null;
+					values[last] = null;
+					return;
+				}
+
+				int home = slot(current) & mask;
+
+				// Move the entry back if its home index is not cyclically in (last, pos].
+				if (last <= pos ? last >= home || home > pos : last >= home && home > pos) {
+					break;
+				}
+
+				pos = (pos + 1) & mask;
+			}
+
+			keys[last] = current;
+			values[last] = values[pos];
+		}
+	}
+
+	private void rehash(int capacity) {
+		AttachmentType<?>[] oldKeys = keys;
+		Object[] oldValues = values;
+		keys = new AttachmentType<?>[capacity];
+		values = new Object[capacity];
+
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] != null) {
+				int index = -indexOf(oldKeys[i]) - 1;
+				keys[index] = oldKeys[i];
+				values[index] = oldValues[i];
+			}
+		}
+	}
+
+	@Override
+	public Set<Entry<AttachmentType<?>, V>> entrySet() {
+		return new AbstractSet<>() {
+			@Override
+			public Iterator<Entry<AttachmentType<?>, V>> iterator() {
+				return new EntryIterator();
+			}
+
+			@Override
+			public int size() {
+				return size;
+			}
+		};
+	}
+
+	private final class EntryIterator implements Iterator<Entry<AttachmentType<?>, V>> {
+		private int index = nextIndex(0);
+
+		private int nextIndex(int from) {
+			while (from < keys.length && keys[from] == null) {
+				from++;
+			}
+
+			return from;
+		}
+
+		@Override
+		public boolean hasNext() {
+			return index < keys.length;
+		}
+
+		@SuppressWarnings("unchecked")
+		@Override
+		public Entry<AttachmentType<?>, V> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			Entry<AttachmentType<?>, V> entry = new SimpleImmutableEntry<>(keys[index], (V) values[index]);
+			index = nextIndex(index + 1);
+			return entry;
+		}
+	}
+}
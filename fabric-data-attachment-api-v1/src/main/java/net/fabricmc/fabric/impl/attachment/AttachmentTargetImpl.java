@@ -29,6 +29,7 @@ import net.minecraft.server.network.ServerPlayerEntity;
 import net.fabricmc.fabric.api.attachment.v1.AttachmentTarget;
 import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
 import net.fabricmc.fabric.impl.attachment.sync.AttachmentChange;
+import net.fabricmc.fabric.impl.attachment.sync.AttachmentSync;
 import net.fabricmc.fabric.impl.attachment.sync.AttachmentTargetInfo;
 import net.fabricmc.fabric.impl.attachment.sync.s2c.AttachmentSyncPayloadS2C;
 
@@ -86,11 +87,32 @@ public interface AttachmentTargetImpl extends AttachmentTarget {
 	}
 
 	default void fabric_syncChange(AttachmentType<?> type, AttachmentSyncPayloadS2C payload) {
+		fabric_forEachSyncRecipient(type, player -> AttachmentSync.trySync(payload, player));
+	}
+
+	/*
+	 * Passes every player that changes of the given type on this target should be sent to
+	 */
+	default void fabric_forEachSyncRecipient(AttachmentType<?> type, Consumer<ServerPlayerEntity> recipients) {
+	}
+
+	/*
+	 * Records the change that should be communicated to newcomers for the given type
+	 */
+	default void fabric_acknowledgeSyncedEntry(AttachmentType<?> type, @Nullable AttachmentChange change) {
+		throw new UnsupportedOperationException("Implemented via mixin");
 	}
 
 	default void fabric_markChanged(AttachmentType<?> type) {
 	}
 
+	/*
+	 * Links a server world to the persistent state saving its attachments, which tracks changes per type
+	 */
+	default void fabric_setPersistentState(AttachmentPersistentState persistentState) {
+		throw new UnsupportedOperationException("Implemented via mixin");
+	}
+
 	default boolean fabric_shouldTryToSync() {
 		throw new UnsupportedOperationException("Implemented via mixin");
 	}
@@ -19,6 +19,7 @@ package net.fabricmc.fabric.impl.attachment;
 import java.util.function.Supplier;
 
 import com.mojang.serialization.Codec;
+import io.netty.buffer.ByteBuf;
 import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.network.RegistryByteBuf;
@@ -32,9 +33,13 @@ public record AttachmentTypeImpl<A>(
 		Identifier identifier,
 		@Nullable Supplier<A> initializer,
 		@Nullable Codec<A> persistenceCodec,
+		@Nullable PacketCodec<? super ByteBuf, A> binaryPersistenceCodec,
 		@Nullable PacketCodec<? super RegistryByteBuf, A> packetCodec,
 		@Nullable AttachmentSyncPredicate syncPredicate,
-		boolean copyOnDeath
+		int syncInterval,
+		boolean copyOnDeath,
+		boolean immutable,
+		int slot
 ) implements AttachmentType<A> {
 	@Override
 	public boolean isSynced() {
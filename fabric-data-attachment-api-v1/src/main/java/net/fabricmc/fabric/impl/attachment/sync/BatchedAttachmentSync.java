@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.attachment.sync;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import it.unimi.dsi.fastutil.objects.Reference2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.entity.Entity;
+import net.minecraft.server.network.ServerPlayerEntity;
+
+import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
+import net.fabricmc.fabric.impl.attachment.AttachmentTargetImpl;
+import net.fabricmc.fabric.impl.attachment.AttachmentTypeImpl;
+
+/**
+ * Collects changes to attachment types declared with {@code syncBatched}, and synchronizes them at the end of the server tick.
+ * Each changed (target, type) pair is only encoded once, and all changes going to a player are sent together.
+ */
+public final class BatchedAttachmentSync {
+	/**
+	 * Changed attachment types per target, mapped to the tick in which they were first changed since the last sync.
+	 */
+	private static final Map<AttachmentTargetImpl, Reference2IntMap<AttachmentType<?>>> DIRTY = new Reference2ObjectLinkedOpenHashMap<>();
+	private static int tick = 0;
+
+	private BatchedAttachmentSync() {
+	}
+
+	public static void markDirty(AttachmentTargetImpl target, AttachmentType<?> type) {
+		synchronized (DIRTY) {
+			DIRTY.computeIfAbsent(target, t -> new Reference2IntLinkedOpenHashMap<>()).putIfAbsent(type, tick);
+		}
+	}
+
+	public static void flush() {
+		Map<ServerPlayerEntity, List<AttachmentChange>> changesByPlayer = new LinkedHashMap<>();
+
+		synchronized (DIRTY) {
+			Iterator<Map.Entry<AttachmentTargetImpl, Reference2IntMap<AttachmentType<?>>>> targetIterator = DIRTY.entrySet().iterator();
+
+			while (targetIterator.hasNext()) {
+				Map.Entry<AttachmentTargetImpl, Reference2IntMap<AttachmentType<?>>> entry = targetIterator.next();
+				AttachmentTargetImpl target = entry.getKey();
+
+				if (isRemoved(target)) {
+					targetIterator.remove();
+					continue;
+				}
+
+				Iterator<Reference2IntMap.Entry<AttachmentType<?>>> typeIterator = entry.getValue().reference2IntEntrySet().iterator();
+
+				while (typeIterator.hasNext()) {
+					Reference2IntMap.Entry<AttachmentType<?>> typeEntry = typeIterator.next();
+					AttachmentType<?> type = typeEntry.getKey();
+
+					if (tick - typeEntry.getIntValue() + 1 < ((AttachmentTypeImpl<?>) type).syncInterval()) {
+						continue;
+					}
+
+					typeIterator.remove();
+					AttachmentChange change = AttachmentChange.create(target.fabric_getSyncTargetInfo(), type, target.getAttached(type), target.fabric_getDynamicRegistryManager());
+					target.fabric_acknowledgeSyncedEntry(type, change);
+					target.fabric_forEachSyncRecipient(type, player -> changesByPlayer.computeIfAbsent(player, p -> new ArrayList<>()).add(change));
+				}
+
+				if (entry.getValue().isEmpty()) {
+					targetIterator.remove();
+				}
+			}
+
+			tick++;
+		}
+
+		changesByPlayer.forEach((player, changes) -> AttachmentChange.partitionAndSendPackets(changes, player));
+	}
+
+	public static void clear() {
+		synchronized (DIRTY) {
+			DIRTY.clear();
+			tick = 0;
+		}
+	}
+
+	private static boolean isRemoved(AttachmentTargetImpl target) {
+		return target instanceof Entity entity && entity.isRemoved()
+				|| target instanceof BlockEntity blockEntity && blockEntity.isRemoved();
+	}
+}
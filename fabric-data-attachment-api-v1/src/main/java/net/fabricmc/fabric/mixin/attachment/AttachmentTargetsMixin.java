@@ -16,7 +16,6 @@
 
 package net.fabricmc.fabric.mixin.attachment;
 
-import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
@@ -35,17 +34,19 @@ import net.minecraft.world.chunk.Chunk;
 
 import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
 import net.fabricmc.fabric.impl.attachment.AttachmentSerializingImpl;
+import net.fabricmc.fabric.impl.attachment.AttachmentStorage;
 import net.fabricmc.fabric.impl.attachment.AttachmentTargetImpl;
 import net.fabricmc.fabric.impl.attachment.AttachmentTypeImpl;
 import net.fabricmc.fabric.impl.attachment.sync.AttachmentChange;
+import net.fabricmc.fabric.impl.attachment.sync.BatchedAttachmentSync;
 import net.fabricmc.fabric.impl.attachment.sync.s2c.AttachmentSyncPayloadS2C;
 
 @Mixin({BlockEntity.class, Entity.class, World.class, Chunk.class})
 abstract class AttachmentTargetsMixin implements AttachmentTargetImpl {
 	@Nullable
-	private IdentityHashMap<AttachmentType<?>, Object> fabric_dataAttachments = null;
+	private AttachmentStorage<Object> fabric_dataAttachments = null;
 	@Nullable
-	private IdentityHashMap<AttachmentType<?>, AttachmentChange> fabric_syncedAttachments = null;
+	private AttachmentStorage<AttachmentChange> fabric_syncedAttachments = null;
 
 	@SuppressWarnings("unchecked")
 	@Override
@@ -61,9 +62,14 @@ abstract class AttachmentTargetsMixin implements AttachmentTargetImpl {
 		this.fabric_markChanged(type);
 
 		if (this.fabric_shouldTryToSync() && type.isSynced()) {
-			AttachmentChange change = AttachmentChange.create(fabric_getSyncTargetInfo(), type, value, fabric_getDynamicRegistryManager());
-			acknowledgeSyncedEntry(type, change);
-			this.fabric_syncChange(type, new AttachmentSyncPayloadS2C(List.of(change)));
+			if (((AttachmentTypeImpl<T>) type).syncInterval() > 0) {
+				// Encoded and sent at the end of the tick, with the value at that time
+				BatchedAttachmentSync.markDirty(this, type);
+			} else {
+				AttachmentChange change = AttachmentChange.create(fabric_getSyncTargetInfo(), type, value, fabric_getDynamicRegistryManager());
+				fabric_acknowledgeSyncedEntry(type, change);
+				this.fabric_syncChange(type, new AttachmentSyncPayloadS2C(List.of(change)));
+			}
 		}
 
 		if (value == null) {
@@ -74,7 +80,7 @@ abstract class AttachmentTargetsMixin implements AttachmentTargetImpl {
 			return (T) fabric_dataAttachments.remove(type);
 		} else {
 			if (fabric_dataAttachments == null) {
-				fabric_dataAttachments = new IdentityHashMap<>();
+				fabric_dataAttachments = new AttachmentStorage<>();
 			}
 
 			return (T) fabric_dataAttachments.put(type, value);
@@ -95,7 +101,7 @@ abstract class AttachmentTargetsMixin implements AttachmentTargetImpl {
 	public void fabric_readAttachmentsFromNbt(NbtCompound nbt, RegistryWrapper.WrapperLookup wrapperLookup) {
 		// Note on player targets: no syncing can happen here as the networkHandler is still null
 		// Instead it is done on player join (see AttachmentSync)
-		this.fabric_dataAttachments = AttachmentSerializingImpl.deserializeAttachmentData(nbt, wrapperLookup);
+		this.fabric_dataAttachments = AttachmentSerializingImpl.deserializeAttachmentData(nbt, wrapperLookup, AttachmentStorage::new);
 
 		if (this.fabric_shouldTryToSync() && this.fabric_dataAttachments != null) {
 			this.fabric_dataAttachments.forEach((type, value) -> {
@@ -118,11 +124,11 @@ abstract class AttachmentTargetsMixin implements AttachmentTargetImpl {
 
 	@Unique
 	private void acknowledgeSynced(AttachmentType<?> type, Object value) {
-		acknowledgeSyncedEntry(type, AttachmentChange.create(fabric_getSyncTargetInfo(), type, value, fabric_getDynamicRegistryManager()));
+		fabric_acknowledgeSyncedEntry(type, AttachmentChange.create(fabric_getSyncTargetInfo(), type, value, fabric_getDynamicRegistryManager()));
 	}
 
-	@Unique
-	private void acknowledgeSyncedEntry(AttachmentType<?> type, @Nullable AttachmentChange change) {
+	@Override
+	public void fabric_acknowledgeSyncedEntry(AttachmentType<?> type, @Nullable AttachmentChange change) {
 		if (change == null) {
 			if (fabric_syncedAttachments == null) {
 				return;
@@ -131,7 +137,7 @@ abstract class AttachmentTargetsMixin implements AttachmentTargetImpl {
 			fabric_syncedAttachments.remove(type);
 		} else {
 			if (fabric_syncedAttachments == null) {
-				fabric_syncedAttachments = new IdentityHashMap<>();
+				fabric_syncedAttachments = new AttachmentStorage<>();
 			}
 
 			fabric_syncedAttachments.put(type, change);
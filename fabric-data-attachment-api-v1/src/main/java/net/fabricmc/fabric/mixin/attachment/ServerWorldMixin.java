@@ -16,9 +16,13 @@
 
 package net.fabricmc.fabric.mixin.attachment;
 
+import java.util.function.Consumer;
+
+import org.jetbrains.annotations.Nullable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -27,6 +31,7 @@ import net.minecraft.registry.DynamicRegistryManager;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.entry.RegistryEntry;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.network.ServerPlayerEntity;
 import net.minecraft.server.world.ServerWorld;
 import net.minecraft.world.MutableWorldProperties;
 import net.minecraft.world.PersistentState;
@@ -38,15 +43,16 @@ import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.impl.attachment.AttachmentPersistentState;
 import net.fabricmc.fabric.impl.attachment.AttachmentTargetImpl;
 import net.fabricmc.fabric.impl.attachment.AttachmentTypeImpl;
-import net.fabricmc.fabric.impl.attachment.sync.AttachmentSync;
 import net.fabricmc.fabric.impl.attachment.sync.AttachmentTargetInfo;
-import net.fabricmc.fabric.impl.attachment.sync.s2c.AttachmentSyncPayloadS2C;
 
 @Mixin(ServerWorld.class)
 abstract class ServerWorldMixin extends World implements AttachmentTargetImpl {
 	@Shadow
 	@Final
 	private MinecraftServer server;
+	@Unique
+	@Nullable
+	private AttachmentPersistentState fabric_persistentState;
 
 	protected ServerWorldMixin(MutableWorldProperties properties, RegistryKey<World> registryRef, DynamicRegistryManager registryManager, RegistryEntry<DimensionType> dimensionEntry, boolean isClient, boolean debugWorld, long seed, int maxChainedNeighborUpdates) {
 		super(
@@ -74,12 +80,24 @@ abstract class ServerWorldMixin extends World implements AttachmentTargetImpl {
 	}
 
 	@Override
-	public void fabric_syncChange(AttachmentType<?> type, AttachmentSyncPayloadS2C payload) {
+	public void fabric_setPersistentState(AttachmentPersistentState persistentState) {
+		this.fabric_persistentState = persistentState;
+	}
+
+	@Override
+	public void fabric_markChanged(AttachmentType<?> type) {
+		if (fabric_persistentState != null) {
+			fabric_persistentState.markChanged(type);
+		}
+	}
+
+	@Override
+	public void fabric_forEachSyncRecipient(AttachmentType<?> type, Consumer<ServerPlayerEntity> recipients) {
 		if ((Object) this instanceof ServerWorld serverWorld) {
 			PlayerLookup.world(serverWorld)
 					.forEach(player -> {
 						if (((AttachmentTypeImpl<?>) type).syncPredicate().test(this, player)) {
-							AttachmentSync.trySync(payload, player);
+							recipients.accept(player);
 						}
 					});
 		}
@@ -25,17 +25,26 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.CALLS_REAL_METHODS;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.UnaryOperator;
 
 import com.mojang.serialization.Codec;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
 import net.minecraft.Bootstrap;
 import net.minecraft.SharedConstants;
@@ -48,6 +57,7 @@ import net.minecraft.entity.MarkerEntity;
 import net.minecraft.nbt.NbtCompound;
 import net.minecraft.nbt.NbtElement;
 import net.minecraft.nbt.NbtOps;
+import net.minecraft.network.codec.PacketCodecs;
 import net.minecraft.registry.DynamicRegistryManager;
 import net.minecraft.registry.RegistryOps;
 import net.minecraft.server.world.ServerWorld;
@@ -58,11 +68,15 @@ import net.minecraft.world.chunk.ProtoChunk;
 import net.minecraft.world.chunk.WorldChunk;
 
 import net.fabricmc.fabric.api.attachment.v1.AttachmentRegistry;
+import net.fabricmc.fabric.api.attachment.v1.AttachmentSyncPredicate;
 import net.fabricmc.fabric.api.attachment.v1.AttachmentTarget;
 import net.fabricmc.fabric.api.attachment.v1.AttachmentType;
 import net.fabricmc.fabric.impl.attachment.AttachmentPersistentState;
 import net.fabricmc.fabric.impl.attachment.AttachmentSerializingImpl;
+import net.fabricmc.fabric.impl.attachment.AttachmentStorage;
 import net.fabricmc.fabric.impl.attachment.AttachmentTargetImpl;
+import net.fabricmc.fabric.impl.attachment.sync.AttachmentChange;
+import net.fabricmc.fabric.impl.attachment.sync.BatchedAttachmentSync;
 
 public class CommonAttachmentTests {
 	private static final String MOD_ID = "example";
@@ -168,6 +182,41 @@ public class CommonAttachmentTests {
 		assertEquals(0.5d, entry.getValue());
 	}
 
+	@Test
+	void testBinaryReadWrite() {
+		AttachmentType<Integer> binary = AttachmentRegistry.create(Identifier.of(MOD_ID, "binary"), builder -> builder
+				.persistent(Codec.INT)
+				.persistentBinary(PacketCodecs.VAR_INT)
+		);
+		var map = new IdentityHashMap<AttachmentType<?>, Object>();
+		map.put(binary, 42);
+		var fakeSave = new NbtCompound();
+
+		AttachmentSerializingImpl.serializeAttachmentData(fakeSave, mockDRM(), map);
+		NbtCompound compound = fakeSave.getCompound(AttachmentTarget.NBT_ATTACHMENT_KEY);
+		assertTrue(compound.contains(AttachmentSerializingImpl.BINARY_KEY, NbtElement.BYTE_ARRAY_TYPE));
+		assertFalse(compound.contains(binary.identifier().toString()));
+
+		map = AttachmentSerializingImpl.deserializeAttachmentData(fakeSave, mockDRM());
+		assertEquals(42, map.get(binary));
+
+		// Data saved with the codec, before the binary codec was added, is still read
+		var oldSave = new NbtCompound();
+		var oldCompound = new NbtCompound();
+		oldCompound.putInt(binary.identifier().toString(), 7);
+		oldSave.put(AttachmentTarget.NBT_ATTACHMENT_KEY, oldCompound);
+		map = AttachmentSerializingImpl.deserializeAttachmentData(oldSave, mockDRM());
+		assertEquals(7, map.get(binary));
+	}
+
+	@Test
+	void testBinaryRequiresPersistence() {
+		assertThrows(IllegalStateException.class, () -> AttachmentRegistry.<Integer>create(
+				Identifier.of(MOD_ID, "binary_not_persistent"),
+				builder -> builder.persistentBinary(PacketCodecs.VAR_INT)
+		));
+	}
+
 	@Test
 	void deserializeNull() {
 		var nbt = new NbtCompound();
@@ -262,6 +311,157 @@ public class CommonAttachmentTests {
 		assertEquals(expected, world.getAttached(PERSISTENT));
 	}
 
+	@Test
+	void testWorldPersistentStateChangeTracking() {
+		ServerWorld world = mockAndDisableSync(ServerWorld.class);
+		AttachmentPersistentState state = new AttachmentPersistentState(world);
+		assertFalse(state.isDirty());
+
+		world.setAttached(PERSISTENT, 1);
+		assertTrue(state.isDirty());
+		NbtCompound firstSave = state.writeNbt(new NbtCompound(), mockDRM());
+		assertFalse(state.isDirty());
+
+		// Unchanged attachments reuse their previous encoding
+		NbtCompound secondSave = state.writeNbt(new NbtCompound(), mockDRM());
+		assertEquals(firstSave, secondSave);
+
+		world.setAttached(PERSISTENT, 2);
+		assertTrue(state.isDirty());
+		NbtCompound thirdSave = state.writeNbt(new NbtCompound(), mockDRM());
+
+		world = mockAndDisableSync(ServerWorld.class);
+		state = AttachmentPersistentState.read(world, thirdSave, mockDRM());
+		assertEquals(2, world.getAttached(PERSISTENT));
+		assertFalse(state.isDirty());
+
+		// Removed attachments are no longer saved
+		world.removeAttached(PERSISTENT);
+		assertTrue(state.isDirty());
+		assertFalse(state.writeNbt(new NbtCompound(), mockDRM()).contains(AttachmentTarget.NBT_ATTACHMENT_KEY));
+	}
+
+	@Test
+	void testWorldPersistentStateSavesInPlaceChanges() {
+		AttachmentType<List<Integer>> mutable = AttachmentRegistry.createPersistent(
+				Identifier.of(MOD_ID, "mutable_world_list"),
+				Codec.INT.listOf()
+		);
+		ServerWorld world = mockAndDisableSync(ServerWorld.class);
+		AttachmentPersistentState state = new AttachmentPersistentState(world);
+
+		List<Integer> list = new ArrayList<>();
+		world.setAttached(mutable, list);
+		state.writeNbt(new NbtCompound(), mockDRM());
+
+		// Mutable values can be modified without being set again, so they are always saved
+		list.add(3);
+		assertTrue(state.isDirty());
+		NbtCompound save = state.writeNbt(new NbtCompound(), mockDRM());
+
+		world = mockAndDisableSync(ServerWorld.class);
+		AttachmentPersistentState.read(world, save, mockDRM());
+		assertEquals(List.of(3), world.getAttached(mutable));
+	}
+
+	@Test
+	void testWorldPersistentStateReusesImmutableEncoding() {
+		AtomicInteger encodeCount = new AtomicInteger();
+		AttachmentType<List<Integer>> immutable = AttachmentRegistry.create(Identifier.of(MOD_ID, "immutable_world_list"), builder -> builder
+				.persistent(Codec.INT.listOf().xmap(UnaryOperator.identity(), list -> {
+					encodeCount.incrementAndGet();
+					return list;
+				}))
+				.immutable()
+		);
+		ServerWorld world = mockAndDisableSync(ServerWorld.class);
+		AttachmentPersistentState state = new AttachmentPersistentState(world);
+
+		world.setAttached(immutable, List.of(1, 2, 3));
+		NbtCompound firstSave = state.writeNbt(new NbtCompound(), mockDRM());
+		assertEquals(1, encodeCount.get());
+
+		// Unchanged values of immutable types are neither marked dirty nor encoded again
+		assertFalse(state.isDirty());
+		NbtCompound secondSave = state.writeNbt(new NbtCompound(), mockDRM());
+		assertEquals(1, encodeCount.get());
+		assertEquals(firstSave, secondSave);
+
+		world.setAttached(immutable, List.of(4));
+		assertTrue(state.isDirty());
+		NbtCompound thirdSave = state.writeNbt(new NbtCompound(), mockDRM());
+		assertEquals(2, encodeCount.get());
+
+		world = mockAndDisableSync(ServerWorld.class);
+		AttachmentPersistentState.read(world, thirdSave, mockDRM());
+		assertEquals(List.of(4), world.getAttached(immutable));
+	}
+
+	@Test
+	void testBatchedSync() {
+		AttachmentType<Integer> batched = AttachmentRegistry.create(Identifier.of(MOD_ID, "batched"), builder -> builder
+				.syncWith(PacketCodecs.VAR_INT, AttachmentSyncPredicate.all())
+				.syncBatched(1)
+		);
+		Entity entity = mock(Entity.class, CALLS_REAL_METHODS);
+		AttachmentTargetImpl target = (AttachmentTargetImpl) entity;
+		doReturn(true).when(target).fabric_shouldTryToSync();
+		doReturn(mockDRM()).when(target).fabric_getDynamicRegistryManager();
+		doNothing().when(target).fabric_forEachSyncRecipient(any(), any());
+
+		entity.setAttached(batched, 1);
+		entity.setAttached(batched, 2);
+		entity.setAttached(batched, 3);
+		verify(target, never()).fabric_acknowledgeSyncedEntry(any(), any());
+
+		// Three changes in one tick are synced once, with the latest value
+		BatchedAttachmentSync.flush();
+		ArgumentCaptor<AttachmentChange> change = ArgumentCaptor.forClass(AttachmentChange.class);
+		verify(target, times(1)).fabric_acknowledgeSyncedEntry(eq(batched), change.capture());
+		verify(target, times(1)).fabric_forEachSyncRecipient(eq(batched), any());
+		assertEquals(3, change.getValue().decodeValue(mockDRM()));
+
+		// Nothing left to sync
+		BatchedAttachmentSync.flush();
+		verify(target, times(1)).fabric_acknowledgeSyncedEntry(eq(batched), any());
+	}
+
+	@Test
+	void testAttachmentStorage() {
+		AttachmentStorage<Integer> storage = new AttachmentStorage<>();
+		List<AttachmentType<Integer>> types = new ArrayList<>();
+
+		// Enough types to force collisions and several rehashes
+		for (int i = 0; i < 20; i++) {
+			AttachmentType<Integer> type = AttachmentRegistry.create(Identifier.of(MOD_ID, "storage_" + i));
+			types.add(type);
+			assertNull(storage.put(type, i));
+		}
+
+		assertEquals(20, storage.size());
+		assertEquals(5, storage.put(types.get(5), 50));
+
+		// Removing entries must not hide the ones that probed past them
+		for (int i = 0; i < 20; i += 2) {
+			assertEquals(i, storage.remove(types.get(i)));
+		}
+
+		assertEquals(10, storage.size());
+
+		for (int i = 0; i < 20; i++) {
+			if (i % 2 == 0) {
+				assertFalse(storage.containsKey(types.get(i)));
+			} else {
+				assertEquals(i == 5 ? 50 : i, storage.get(types.get(i)));
+			}
+		}
+
+		assertEquals(10, storage.entrySet().stream().count());
+		storage.clear();
+		assertTrue(storage.isEmpty());
+		assertNull(storage.get(types.get(1)));
+	}
+
 	/*
 	 * Chunk serializing is coupled with world saving in ChunkSerializer which is too much of a pain to mock,
 	 * so testing is handled by the testmod instead.
@@ -17,8 +17,11 @@
 package net.fabricmc.fabric.api.datagen.v1;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
 
 import org.jetbrains.annotations.ApiStatus;
 
@@ -31,6 +34,8 @@ import net.minecraft.registry.RegistryBuilder;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.util.Identifier;
 
+import net.fabricmc.fabric.api.datagen.v1.provider.IncrementalDataProvider;
+import net.fabricmc.fabric.impl.datagen.IncrementalDataProviderRunner;
 import net.fabricmc.loader.api.ModContainer;
 
 /**
@@ -134,8 +139,11 @@ public final class FabricDataGenerator extends DataGenerator {
 	 * Represents a pack of generated data (i.e. data pack or resource pack). Providers are added to a pack.
 	 */
 	public final class Pack extends DataGenerator.Pack {
+		private final String packName;
+
 		private Pack(boolean shouldRun, String name, FabricDataOutput output) {
 			super(shouldRun, name, output);
+			this.packName = name;
 		}
 
 		/**
@@ -144,7 +152,7 @@ public final class FabricDataGenerator extends DataGenerator {
 		 * @return the {@link DataProvider}
 		 */
 		public <T extends DataProvider> T addProvider(Factory<T> factory) {
-			return super.addProvider(output -> factory.create((FabricDataOutput) output));
+			return addFabricProvider(factory::create);
 		}
 
 		/**
@@ -154,7 +162,25 @@ public final class FabricDataGenerator extends DataGenerator {
 		 * @return the {@link DataProvider}
 		 */
 		public <T extends DataProvider> T addProvider(RegistryDependentFactory<T> factory) {
-			return super.addProvider(output -> factory.create((FabricDataOutput) output, registriesFuture));
+			return addFabricProvider(output -> factory.create(output, registriesFuture));
+		}
+
+		private <T extends DataProvider> T addFabricProvider(Function<FabricDataOutput, T> factory) {
+			List<T> created = new ArrayList<>(1);
+
+			super.addProvider(output -> {
+				T provider = factory.apply((FabricDataOutput) output);
+				created.add(provider);
+
+				// Run incremental providers through a wrapper that skips them, while still returning the provider itself
+				if (provider instanceof IncrementalDataProvider incrementalProvider) {
+					return new IncrementalDataProviderRunner(incrementalProvider, packName, FabricDataGenerator.this.output.getPath());
+				}
+
+				return provider;
+			});
+
+			return created.getFirst();
 		}
 
 		/**
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.api.datagen.v1.provider;
+
+import java.nio.file.Path;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import net.minecraft.data.DataProvider;
+import net.minecraft.registry.RegistryWrapper;
+
+import net.fabricmc.fabric.api.datagen.v1.FabricDataGenerator;
+
+/**
+ * A {@link DataProvider} that declares the inputs its output depends on, so that it can be skipped when they have not
+ * changed since the last run.
+ *
+ * <p>When a provider registered with {@link FabricDataGenerator.Pack#addProvider} implements this interface,
+ * a fingerprint of its inputs is computed before running it, and compared with the one stored by the previous run.
+ * If they match and all previously generated files still exist, the provider is not run, and its previous output is
+ * kept as is. Passing {@code -Dfabric-api.datagen.ignore-fingerprints} always runs all providers.
+ *
+ * <p>The class of the provider is always part of its inputs. Anything else its output depends on must be declared
+ * in {@link #addInputs(Inputs)}, otherwise changes to it won't be picked up.
+ *
+ * <p>Providers that other providers depend on while running, such as tag providers used as the parent of another
+ * tag provider, should not implement this interface, as they won't run when skipped.
+ */
+public interface IncrementalDataProvider extends DataProvider {
+	/**
+	 * Declares the inputs the output of this provider depends on.
+	 *
+	 * @param inputs the inputs of this provider
+	 */
+	void addInputs(Inputs inputs);
+
+	/**
+	 * The inputs of a provider, which are hashed into its fingerprint.
+	 */
+	@ApiStatus.NonExtendable
+	interface Inputs {
+		/**
+		 * Adds a configuration value.
+		 *
+		 * @return this instance
+		 */
+		Inputs add(String value);
+
+		/**
+		 * Adds a configuration value.
+		 *
+		 * @return this instance
+		 */
+		Inputs add(int value);
+
+		/**
+		 * Adds the bytecode of a class, such as a class holding the content the provider generates data for.
+		 * Nested and anonymous classes are not included, and need to be added separately.
+		 *
+		 * @return this instance
+		 */
+		Inputs addClass(Class<?> clazz);
+
+		/**
+		 * Adds the contents of a file read by the provider. A missing file is also an input.
+		 *
+		 * @return this instance
+		 */
+		Inputs addFile(Path path);
+
+		/**
+		 * Adds the keys of all entries of a registry. Changes to the values of the entries are not detected.
+		 *
+		 * @return this instance
+		 */
+		Inputs addRegistry(RegistryWrapper.Impl<?> registry);
+	}
+}
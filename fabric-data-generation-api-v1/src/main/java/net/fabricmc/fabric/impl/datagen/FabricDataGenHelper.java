@@ -20,14 +20,20 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.google.gson.JsonObject;
 import com.mojang.logging.LogUtils;
 import com.mojang.serialization.JsonOps;
@@ -51,6 +57,7 @@ import net.minecraft.util.Util;
 
 import net.fabricmc.fabric.api.datagen.v1.DataGeneratorEntrypoint;
 import net.fabricmc.fabric.api.datagen.v1.FabricDataGenerator;
+import net.fabricmc.fabric.api.datagen.v1.JsonKeySortOrderCallback;
 import net.fabricmc.fabric.api.event.registry.DynamicRegistries;
 import net.fabricmc.fabric.api.resource.conditions.v1.ResourceCondition;
 import net.fabricmc.fabric.api.resource.conditions.v1.ResourceConditions;
@@ -82,6 +89,22 @@ public final class FabricDataGenHelper {
 	@Nullable
 	private static final String MOD_ID_FILTER = System.getProperty("fabric-api.datagen.modid");
 
+	/**
+	 * When enabled the data generators of all entrypoints run concurrently, instead of one after another.
+	 */
+	private static final boolean PARALLEL = System.getProperty("fabric-api.datagen.parallel") != null;
+
+	/**
+	 * Held while a {@link net.minecraft.data.DataCache} writes its cache files and removes stale outputs,
+	 * as data generators running in parallel share the same output and {@code .cache} directories.
+	 */
+	public static final Object CACHE_WRITE_LOCK = new Object();
+
+	/**
+	 * When enabled {@link net.fabricmc.fabric.api.datagen.v1.provider.IncrementalDataProvider}s always run, even if their inputs did not change.
+	 */
+	public static final boolean IGNORE_FINGERPRINTS = System.getProperty("fabric-api.datagen.ignore-fingerprints") != null;
+
 	/**
 	 * Entrypoint key to register classes implementing {@link DataGeneratorEntrypoint}.
 	 */
@@ -119,6 +142,11 @@ public final class FabricDataGenHelper {
 		Object2IntOpenHashMap<String> jsonKeySortOrders = (Object2IntOpenHashMap<String>) DataProvider.JSON_KEY_SORT_ORDER;
 		Object2IntOpenHashMap<String> defaultJsonKeySortOrders = new Object2IntOpenHashMap<>(jsonKeySortOrders);
 
+		if (PARALLEL) {
+			runParallel(dataGeneratorInitializers, outputDir, registriesFuture, jsonKeySortOrders, defaultJsonKeySortOrders);
+			return;
+		}
+
 		for (EntrypointContainer<DataGeneratorEntrypoint> entrypointContainer : dataGeneratorInitializers) {
 			final String id = entrypointContainer.getProvider().getMetadata().getId();
 
@@ -131,23 +159,12 @@ public final class FabricDataGenHelper {
 			LOGGER.info("Running data generator for {}", id);
 
 			try {
-				final DataGeneratorEntrypoint entrypoint = entrypointContainer.getEntrypoint();
-				final String effectiveModId = entrypoint.getEffectiveModId();
-				ModContainer modContainer = entrypointContainer.getProvider();
-
 				HashSet<String> keys = new HashSet<>();
-				entrypoint.addJsonKeySortOrders((key, value) -> {
+				FabricDataGenerator dataGenerator = createDataGenerator(entrypointContainer, outputDir, registriesFuture, (key, value) -> {
 					Objects.requireNonNull(key, "Tried to register a priority for a null key");
 					jsonKeySortOrders.put(key, value);
 					keys.add(key);
 				});
-
-				if (effectiveModId != null) {
-					modContainer = FabricLoader.getInstance().getModContainer(effectiveModId).orElseThrow(() -> new RuntimeException("Failed to find effective mod container for mod id (%s)".formatted(effectiveModId)));
-				}
-
-				FabricDataGenerator dataGenerator = new FabricDataGenerator(outputDir, modContainer, STRICT_VALIDATION, registriesFuture);
-				entrypoint.onInitializeDataGenerator(dataGenerator);
 				dataGenerator.run();
 
 				jsonKeySortOrders.keySet().removeAll(keys);
@@ -158,6 +175,89 @@ public final class FabricDataGenHelper {
 		}
 	}
 
+	/**
+	 * Runs the data generators of all entrypoints concurrently.
+	 *
+	 * <p>JSON key sort orders are global, so entrypoints are grouped by the sort orders they add. Each group runs with
+	 * its sort orders applied, and groups run one after another. In practice most entrypoints don't add any sort order
+	 * and end up in the same group. Every provider writes to its own files and cache, and the cache write and cleanup
+	 * of each generator is serialized with {@link #CACHE_WRITE_LOCK}, so the output is the same as when running
+	 * sequentially.
+	 */
+	private static void runParallel(List<EntrypointContainer<DataGeneratorEntrypoint>> dataGeneratorInitializers, Path outputDir, CompletableFuture<RegistryWrapper.WrapperLookup> registriesFuture, Object2IntOpenHashMap<String> jsonKeySortOrders, Object2IntOpenHashMap<String> defaultJsonKeySortOrders) {
+		// Entrypoints are still initialized sequentially on the main thread, in the same order as usual.
+		Map<Map<String, Integer>, List<PreparedDataGenerator>> groups = new LinkedHashMap<>();
+
+		for (EntrypointContainer<DataGeneratorEntrypoint> entrypointContainer : dataGeneratorInitializers) {
+			final String id = entrypointContainer.getProvider().getMetadata().getId();
+
+			if (MOD_ID_FILTER != null && !id.equals(MOD_ID_FILTER)) {
+				continue;
+			}
+
+			try {
+				Map<String, Integer> keySortOrders = new HashMap<>();
+				FabricDataGenerator dataGenerator = createDataGenerator(entrypointContainer, outputDir, registriesFuture, (key, value) -> {
+					Objects.requireNonNull(key, "Tried to register a priority for a null key");
+					keySortOrders.put(key, value);
+				});
+				groups.computeIfAbsent(keySortOrders, k -> new ArrayList<>()).add(new PreparedDataGenerator(id, dataGenerator));
+			} catch (Throwable t) {
+				throw new RuntimeException("Failed to run data generator from mod (%s)".formatted(id), t);
+			}
+		}
+
+		int threads = Math.min(Runtime.getRuntime().availableProcessors(), groups.values().stream().mapToInt(List::size).max().orElse(1));
+		ExecutorService executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder().setNameFormat("Fabric Data Generator %d").setDaemon(true).build());
+
+		try {
+			for (Map.Entry<Map<String, Integer>, List<PreparedDataGenerator>> group : groups.entrySet()) {
+				jsonKeySortOrders.putAll(group.getKey());
+
+				CompletableFuture.allOf(group.getValue().stream()
+						.map(generator -> CompletableFuture.runAsync(generator::run, executor))
+						.toArray(CompletableFuture[]::new)
+				).join();
+
+				jsonKeySortOrders.keySet().removeAll(group.getKey().keySet());
+				jsonKeySortOrders.putAll(defaultJsonKeySortOrders);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static FabricDataGenerator createDataGenerator(EntrypointContainer<DataGeneratorEntrypoint> entrypointContainer, Path outputDir, CompletableFuture<RegistryWrapper.WrapperLookup> registriesFuture, JsonKeySortOrderCallback keySortOrders) {
+		final DataGeneratorEntrypoint entrypoint = entrypointContainer.getEntrypoint();
+		final String effectiveModId = entrypoint.getEffectiveModId();
+		ModContainer modContainer = entrypointContainer.getProvider();
+
+		entrypoint.addJsonKeySortOrders(keySortOrders);
+
+		if (effectiveModId != null) {
+			modContainer = FabricLoader.getInstance().getModContainer(effectiveModId).orElseThrow(() -> new RuntimeException("Failed to find effective mod container for mod id (%s)".formatted(effectiveModId)));
+		}
+
+		FabricDataGenerator dataGenerator = new FabricDataGenerator(outputDir, modContainer, STRICT_VALIDATION, registriesFuture);
+		entrypoint.onInitializeDataGenerator(dataGenerator);
+		return dataGenerator;
+	}
+
+	private record PreparedDataGenerator(String id, FabricDataGenerator dataGenerator) {
+		void run() {
+			LOGGER.info("Running data generator for {}", id);
+			long start = System.nanoTime();
+
+			try {
+				dataGenerator.run();
+			} catch (Throwable t) {
+				throw new RuntimeException("Failed to run data generator from mod (%s)".formatted(id), t);
+			}
+
+			LOGGER.info("Data generator for {} finished after {} ms", id, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+		}
+	}
+
 	private static RegistryWrapper.WrapperLookup createRegistryWrapper(List<DataGeneratorEntrypoint> dataGeneratorInitializers) {
 		// Build a list of all the RegistryBuilder's including vanilla's
 		List<RegistryBuilder> builders = new ArrayList<>();
@@ -226,7 +326,7 @@ public final class FabricDataGenHelper {
 	/**
 	 * Used to keep track of conditions associated to generated objects.
 	 */
-	private static final Map<Object, ResourceCondition[]> CONDITIONS_MAP = new IdentityHashMap<>();
+	private static final Map<Object, ResourceCondition[]> CONDITIONS_MAP = Collections.synchronizedMap(new IdentityHashMap<>());
 
 	public static void addConditions(Object object, ResourceCondition[] conditions) {
 		CONDITIONS_MAP.merge(object, conditions, ArrayUtils::addAll);
@@ -0,0 +1,227 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.datagen;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.data.DataProvider;
+import net.minecraft.data.DataWriter;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.util.Util;
+
+import net.fabricmc.fabric.api.datagen.v1.provider.IncrementalDataProvider;
+
+/**
+ * Runs an {@link IncrementalDataProvider}, skipping it when its inputs did not change.
+ *
+ * <p>The fingerprint of the inputs and the list of generated files are stored in a state file, which is written
+ * through the {@link DataWriter} like any other output so that the data cache keeps track of it. When the provider is
+ * skipped, its previous output is written again as is: the data cache sees unchanged hashes and doesn't touch the
+ * files, but still knows they belong to the provider, so they are not removed as stale.
+ */
+public final class IncrementalDataProviderRunner implements DataProvider {
+	private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalDataProviderRunner.class);
+	/**
+	 * Bump when the state file format or the way inputs are hashed changes.
+	 */
+	private static final int FORMAT_VERSION = 1;
+
+	private final IncrementalDataProvider provider;
+	/**
+	 * Identifies the provider's state, prefixed with the pack name like the data cache does,
+	 * since the same provider can be added to several packs.
+	 */
+	private final String stateKey;
+	private final Path root;
+
+	public IncrementalDataProviderRunner(IncrementalDataProvider provider, String packName, Path root) {
+		this.provider = provider;
+		this.stateKey = packName + "/" + provider.getName();
+		this.root = root;
+	}
+
+	@Override
+	public CompletableFuture<?> run(DataWriter writer) {
+		return CompletableFuture.supplyAsync(this::computeFingerprint, Util.getMainWorkerExecutor()).thenCompose(fingerprint -> {
+			Path statePath = root.resolve(".cache").resolve("fabric").resolve(Hashing.sha256().hashString(stateKey, StandardCharsets.UTF_8) + ".json");
+			List<Path> previousOutputs = FabricDataGenHelper.IGNORE_FINGERPRINTS ? null : readState(statePath, fingerprint);
+
+			if (previousOutputs != null) {
+				LOGGER.info("Inputs of {} did not change, skipping", getName());
+				return CompletableFuture.runAsync(() -> {
+					try {
+						for (Path path : previousOutputs) {
+							writeBytes(writer, path, Files.readAllBytes(path));
+						}
+
+						writeState(writer, statePath, fingerprint, previousOutputs);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}, Util.getMainWorkerExecutor());
+			}
+
+			Set<Path> outputs = ConcurrentHashMap.newKeySet();
+			DataWriter recordingWriter = (path, data, hashCode) -> {
+				outputs.add(path);
+				writer.write(path, data, hashCode);
+			};
+
+			return provider.run(recordingWriter).thenRun(() -> {
+				try {
+					writeState(writer, statePath, fingerprint, outputs.stream().sorted().toList());
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		});
+	}
+
+	@Override
+	public String getName() {
+		return provider.getName();
+	}
+
+	private String computeFingerprint() {
+		Hasher hasher = Hashing.sha256().newHasher();
+		var inputs = new InputsImpl(hasher);
+		hasher.putInt(FORMAT_VERSION);
+		hasher.putString(SharedConstants.getGameVersion().getId(), StandardCharsets.UTF_8);
+		inputs.addClass(provider.getClass());
+		provider.addInputs(inputs);
+		return hasher.hash().toString();
+	}
+
+	/**
+	 * @return the previous outputs if the fingerprint matches and they all still exist, or {@code null} if the provider needs to run
+	 */
+	@Nullable
+	private List<Path> readState(Path statePath, String fingerprint) {
+		if (!Files.isRegularFile(statePath)) {
+			return null;
+		}
+
+		try {
+			JsonObject state = JsonParser.parseString(Files.readString(statePath)).getAsJsonObject();
+
+			if (!fingerprint.equals(state.get("fingerprint").getAsString())) {
+				return null;
+			}
+
+			List<Path> outputs = state.getAsJsonArray("outputs").asList().stream().map(e -> root.resolve(e.getAsString())).toList();
+			return outputs.stream().allMatch(Files::isRegularFile) ? outputs : null;
+		} catch (Exception e) {
+			LOGGER.warn("Failed to read datagen state of {}, running it", getName(), e);
+			return null;
+		}
+	}
+
+	private void writeState(DataWriter writer, Path statePath, String fingerprint, List<Path> outputs) throws IOException {
+		var state = new JsonObject();
+		var outputArray = new JsonArray();
+		state.addProperty("fingerprint", fingerprint);
+
+		for (Path output : outputs) {
+			outputArray.add(root.relativize(output).toString().replace('\\', '/'));
+		}
+
+		state.add("outputs", outputArray);
+		writeBytes(writer, statePath, state.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	@SuppressWarnings("deprecation")
+	private static void writeBytes(DataWriter writer, Path path, byte[] data) throws IOException {
+		// Same hash function as vanilla, so unchanged files are not written again
+		writer.write(path, data, Hashing.sha1().hashBytes(data));
+	}
+
+	private record InputsImpl(Hasher hasher) implements IncrementalDataProvider.Inputs {
+		@Override
+		public IncrementalDataProvider.Inputs add(String value) {
+			hasher.putString(value, StandardCharsets.UTF_8);
+			return this;
+		}
+
+		@Override
+		public IncrementalDataProvider.Inputs add(int value) {
+			hasher.putInt(value);
+			return this;
+		}
+
+		@Override
+		public IncrementalDataProvider.Inputs addClass(Class<?> clazz) {
+			hasher.putString(clazz.getName(), StandardCharsets.UTF_8);
+
+			try (InputStream stream = clazz.getResourceAsStream("/" + clazz.getName().replace('.', '/') + ".class")) {
+				if (stream != null) {
+					hasher.putBytes(stream.readAllBytes());
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException("Failed to read class " + clazz.getName(), e);
+			}
+
+			return this;
+		}
+
+		@Override
+		public IncrementalDataProvider.Inputs addFile(Path path) {
+			hasher.putString(path.toString(), StandardCharsets.UTF_8);
+
+			try {
+				if (Files.isRegularFile(path)) {
+					hasher.putBytes(Files.readAllBytes(path));
+				} else {
+					hasher.putBoolean(false);
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException("Failed to read file " + path, e);
+			}
+
+			return this;
+		}
+
+		@Override
+		public IncrementalDataProvider.Inputs addRegistry(RegistryWrapper.Impl<?> registry) {
+			hasher.putString(registry.getKey().getValue().toString(), StandardCharsets.UTF_8);
+			registry.streamKeys()
+					.map(RegistryKey::getValue)
+					.sorted()
+					.forEach(id -> hasher.putString(id.toString(), StandardCharsets.UTF_8));
+			return this;
+		}
+	}
+}
@@ -18,12 +18,16 @@ package net.fabricmc.fabric.mixin.datagen;
 
 import java.time.LocalDateTime;
 
+import com.llamalad7.mixinextras.injector.wrapmethod.WrapMethod;
+import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Redirect;
 
 import net.minecraft.data.DataCache;
 
+import net.fabricmc.fabric.impl.datagen.FabricDataGenHelper;
+
 @Mixin(DataCache.class)
 public abstract class DataCacheMixin {
 	// Lambda in write()V
@@ -32,4 +36,12 @@ public abstract class DataCacheMixin {
 		// Write a constant time to the .cache file to ensure datagen output is reproducible
 		return LocalDateTime.MIN;
 	}
+
+	@WrapMethod(method = "write")
+	private void lockWrite(Operation<Void> original) {
+		// Data generators running in parallel share the output directory, write and clean up their caches one at a time
+		synchronized (FabricDataGenHelper.CACHE_WRITE_LOCK) {
+			original.call();
+		}
+	}
 }
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.api.gametest.v1;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import net.minecraft.test.GameTest;
+
+/**
+ * Turns a {@link GameTest} method into a performance test.
+ *
+ * <p>The test method is only used to set up the test, for example by spawning entities, and must not complete the test
+ * itself. The server is then left running for {@link #warmupTicks()} ticks, before measuring the following
+ * {@link #measuredTicks()} ticks. The test fails if any of the configured limits is exceeded, and passes otherwise.
+ * The {@link GameTest#tickLimit()} of the test must be greater than the warm-up and measured ticks combined, plus one.
+ *
+ * <p>The following is measured on the server thread, for every tick:
+ * <ul>
+ *     <li>the time taken by the whole server tick,</li>
+ *     <li>the time spent ticking entities and block entities, in all worlds,</li>
+ *     <li>the memory allocated by the server thread, when supported by the JVM.</li>
+ * </ul>
+ *
+ * <p>Measurements cover everything happening on the server, not only the test structure, so performance tests should
+ * use their own {@linkplain GameTest#batchId() batch} to not be affected by other tests running at the same time.
+ * Tick times depend on the machine running the tests, so time limits should leave a large margin, or be left unset
+ * to only report the measurements.
+ *
+ * <p>Results are logged, and written next to the JUnit report in a {@code -performance.json} file
+ * when {@code fabric-api.gametest.report-file} is set.
+ *
+ * <pre>{@code
+ * @PerformanceGameTest(measuredTicks = 200, maxAverageTickMillis = 5)
+ * @GameTest(templateName = EMPTY_STRUCTURE, batchId = "performance", tickLimit = 300)
+ * public void manyItems(TestContext context) {
+ *     for (int i = 0; i < 100; i++) {
+ *         context.spawnItem(Items.DIAMOND, 1, 2, 1);
+ *     }
+ * }
+ * }</pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface PerformanceGameTest {
+	/**
+	 * @return the number of ticks to run before measuring
+	 */
+	int warmupTicks() default 20;
+
+	/**
+	 * @return the number of ticks to measure
+	 */
+	int measuredTicks() default 100;
+
+	/**
+	 * @return the maximum average duration of a server tick in milliseconds, or 0 for no limit
+	 */
+	double maxAverageTickMillis() default 0;
+
+	/**
+	 * @return the maximum average time spent ticking entities per tick in milliseconds, or 0 for no limit
+	 */
+	double maxAverageEntityTickMillis() default 0;
+
+	/**
+	 * @return the maximum average time spent ticking block entities per tick in milliseconds, or 0 for no limit
+	 */
+	double maxAverageBlockEntityTickMillis() default 0;
+
+	/**
+	 * @return the maximum average number of bytes allocated by the server thread per tick, or 0 for no limit
+	 */
+	long maxAllocatedBytesPerTick() default 0;
+}
@@ -17,14 +17,23 @@
 package net.fabricmc.fabric.impl.gametest;
 
 import java.io.File;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import javax.xml.parsers.ParserConfigurationException;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,6 +41,7 @@ import net.minecraft.resource.ResourceFinder;
 import net.minecraft.resource.ResourcePackManager;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.command.TestCommand;
+import net.minecraft.test.GameTest;
 import net.minecraft.test.TestContext;
 import net.minecraft.test.TestFailureLogger;
 import net.minecraft.test.TestFunction;
@@ -42,6 +52,7 @@ import net.minecraft.world.level.storage.LevelStorage;
 
 import net.fabricmc.api.EnvType;
 import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.fabricmc.fabric.api.gametest.v1.PerformanceGameTest;
 import net.fabricmc.loader.api.FabricLoader;
 
 public final class FabricGameTestHelper {
@@ -56,8 +67,19 @@ public final class FabricGameTestHelper {
 	 */
 	public static final boolean COMMAND_ENABLED = Boolean.parseBoolean(System.getProperty("fabric-api.gametest.command", FabricLoader.getInstance().getEnvironmentType() == EnvType.CLIENT ? "true" : "false"));
 
+	/**
+	 * When set only a part of the tests is run, so that they can be split between several test servers running concurrently.
+	 *
+	 * <p>The value has the form {@code <index>/<count>}, with the index starting at 1. Every shard should be given its own
+	 * report file, tests of the same batch always run in the same shard.
+	 */
+	@Nullable
+	private static final String SHARD = System.getProperty("fabric-api.gametest.shard");
+
 	private static final Logger LOGGER = LoggerFactory.getLogger(FabricGameTestHelper.class);
 
+	private static final Map<Method, MethodHandle> TEST_METHOD_HANDLES = new ConcurrentHashMap<>();
+
 	private static final String GAMETEST_STRUCTURE_PATH = "gametest/structure";
 
 	public static final ResourceFinder GAMETEST_STRUCTURE_FINDER = new ResourceFinder(GAMETEST_STRUCTURE_PATH, ".snbt");
@@ -83,23 +105,27 @@ public final class FabricGameTestHelper {
 	}
 
 	public static Consumer<TestContext> getTestMethodInvoker(Method method) {
-		return testContext -> {
-			Class<?> testClass = method.getDeclaringClass();
-
-			Constructor<?> constructor;
+		Class<?> testClass = method.getDeclaringClass();
+		MethodHandle constructor;
 
-			try {
-				constructor = testClass.getConstructor();
-			} catch (NoSuchMethodException e) {
+		try {
+			constructor = MethodHandles.lookup().unreflectConstructor(testClass.getConstructor());
+		} catch (NoSuchMethodException | IllegalAccessException e) {
+			// Only fail the tests of this class
+			return testContext -> {
 				throw new RuntimeException("Test class (%s) provided by (%s) must have a public default or no args constructor".formatted(testClass.getSimpleName(), FabricGameTestModInitializer.getModIdForTestClass(testClass)));
-			}
+			};
+		}
+
+		PerformanceGameTest performanceGameTest = method.getAnnotation(PerformanceGameTest.class);
 
+		return testContext -> {
 			Object testObject;
 
 			try {
-				testObject = constructor.newInstance();
-			} catch (InvocationTargetException | InstantiationException | IllegalAccessException e) {
-				throw new RuntimeException("Failed to create instance of test class (%s)".formatted(testClass.getCanonicalName()), e);
+				testObject = constructor.invoke();
+			} catch (Throwable t) {
+				throw new RuntimeException("Failed to create instance of test class (%s)".formatted(testClass.getCanonicalName()), t);
 			}
 
 			if (testObject instanceof FabricGameTest fabricGameTest) {
@@ -107,26 +133,109 @@ public final class FabricGameTestHelper {
 			} else {
 				invokeTestMethod(testContext, method, testObject);
 			}
+
+			if (performanceGameTest != null) {
+				startPerformanceMeasurement(testContext, method, performanceGameTest);
+			}
 		};
 	}
 
+	private static void startPerformanceMeasurement(TestContext testContext, Method method, PerformanceGameTest config) {
+		String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+
+		if (config.warmupTicks() < 0 || config.measuredTicks() < 1) {
+			throw new RuntimeException("Performance test (%s) must have a non negative number of warmup ticks and at least one measured tick".formatted(name));
+		}
+
+		// The measured ticks end on the tick before the evaluation, see PerformanceMeasurement.record
+		int evaluationTick = config.warmupTicks() + config.measuredTicks() + 1;
+		GameTest gameTest = method.getAnnotation(GameTest.class);
+
+		if (gameTest != null && gameTest.tickLimit() <= evaluationTick) {
+			throw new RuntimeException("Performance test (%s) must have a tick limit greater than %d".formatted(name, evaluationTick));
+		}
+
+		PerformanceMeasurement measurement = PerformanceMeasurement.start(name, config);
+		testContext.waitAndRun(evaluationTick, () -> {
+			measurement.evaluate();
+			testContext.complete();
+		});
+	}
+
 	public static void invokeTestMethod(TestContext testContext, Method method, Object testObject) {
+		MethodHandle handle = TEST_METHOD_HANDLES.computeIfAbsent(method, FabricGameTestHelper::unreflectTestMethod);
+
 		try {
-			method.invoke(testObject, testContext);
-		} catch (IllegalAccessException e) {
-			throw new RuntimeException("Failed to invoke test method (%s) in (%s) because %s".formatted(method.getName(), method.getDeclaringClass().getCanonicalName(), e.getMessage()), e);
-		} catch (InvocationTargetException e) {
-			LOGGER.error("Exception occurred when invoking test method {} in ({})", method.getName(), method.getDeclaringClass().getCanonicalName(), e);
+			handle.invokeExact(testObject, testContext);
+		} catch (Throwable t) {
+			LOGGER.error("Exception occurred when invoking test method {} in ({})", method.getName(), method.getDeclaringClass().getCanonicalName(), t);
 
-			if (e.getCause() instanceof RuntimeException runtimeException) {
+			if (t instanceof RuntimeException runtimeException) {
 				throw runtimeException;
 			} else {
-				throw new RuntimeException(e.getCause());
+				throw new RuntimeException(t);
 			}
 		}
 	}
 
+	private static MethodHandle unreflectTestMethod(Method method) {
+		try {
+			// Adapt to (Object, TestContext) so it can be invoked without knowing the test class statically
+			return MethodHandles.lookup().unreflect(method).asType(MethodType.methodType(void.class, Object.class, TestContext.class));
+		} catch (IllegalAccessException e) {
+			throw new RuntimeException("Failed to invoke test method (%s) in (%s) because %s".formatted(method.getName(), method.getDeclaringClass().getCanonicalName(), e.getMessage()), e);
+		}
+	}
+
 	private static Collection<TestFunction> getTestFunctions() {
-		return TestFunctions.getTestFunctions();
+		Collection<TestFunction> testFunctions = TestFunctions.getTestFunctions();
+
+		if (SHARD == null) {
+			return testFunctions;
+		}
+
+		String[] parts = SHARD.split("/");
+		int index;
+		int count;
+
+		try {
+			index = Integer.parseInt(parts[0]);
+			count = Integer.parseInt(parts[1]);
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("Invalid gametest shard (%s), expected <index>/<count>".formatted(SHARD), e);
+		}
+
+		if (parts.length != 2 || count < 1 || index < 1 || index > count) {
+			throw new IllegalArgumentException("Invalid gametest shard (%s), expected <index>/<count>".formatted(SHARD));
+		}
+
+		// Tests of a batch share their before and after batch hooks, so a batch is never split.
+		// Assign the largest batches first to the shard with the fewest tests, which is deterministic and keeps shards balanced.
+		List<List<TestFunction>> batches = new ArrayList<>(testFunctions.stream()
+				.collect(Collectors.groupingBy(TestFunction::batchId, TreeMap::new, Collectors.toList()))
+				.values());
+		batches.sort(Comparator.comparingInt(List::size).reversed());
+
+		int[] shardSizes = new int[count];
+		List<TestFunction> selected = new ArrayList<>();
+
+		for (List<TestFunction> batch : batches) {
+			int shard = 0;
+
+			for (int i = 1; i < count; i++) {
+				if (shardSizes[i] < shardSizes[shard]) {
+					shard = i;
+				}
+			}
+
+			shardSizes[shard] += batch.size();
+
+			if (shard == index - 1) {
+				selected.addAll(batch);
+			}
+		}
+
+		LOGGER.info("Running gametest shard {} of {}, with {} of {} tests", index, count, selected.size(), testFunctions.size());
+		return selected;
 	}
 }
@@ -0,0 +1,250 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.gametest;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.test.GameTestException;
+
+import net.fabricmc.fabric.api.gametest.v1.PerformanceGameTest;
+
+/**
+ * Measures the server ticks while a {@link PerformanceGameTest} is running.
+ *
+ * <p>All the methods are called on the server thread, so no synchronization is needed.
+ */
+public final class PerformanceMeasurement {
+	private static final Logger LOGGER = LoggerFactory.getLogger(PerformanceMeasurement.class);
+	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+	private static final double NANOS_PER_MILLI = 1_000_000D;
+
+	private static final List<PerformanceMeasurement> ACTIVE = new ArrayList<>();
+	/**
+	 * The latest result of each performance test, so that running a test again replaces its previous result.
+	 */
+	private static final Map<String, JsonObject> REPORT = new LinkedHashMap<>();
+	@Nullable
+	private static final com.sun.management.ThreadMXBean ALLOCATION_BEAN = getAllocationBean();
+
+	private static long tickStart;
+	private static long tickStartAllocated;
+	private static long entityStart;
+	private static long entityNanos;
+	private static long blockEntityStart;
+	private static long blockEntityNanos;
+
+	private final String name;
+	private final PerformanceGameTest config;
+	private int ticks;
+	private int measuredTicks;
+	private long tickNanos;
+	private long measuredEntityNanos;
+	private long measuredBlockEntityNanos;
+	private long allocatedBytes;
+
+	private PerformanceMeasurement(String name, PerformanceGameTest config) {
+		this.name = name;
+		this.config = config;
+	}
+
+	public static PerformanceMeasurement start(String name, PerformanceGameTest config) {
+		PerformanceMeasurement measurement = new PerformanceMeasurement(name, config);
+		ACTIVE.add(measurement);
+		return measurement;
+	}
+
+	public static void onTickStart() {
+		if (ACTIVE.isEmpty()) {
+			return;
+		}
+
+		entityNanos = 0;
+		blockEntityNanos = 0;
+		tickStartAllocated = getAllocatedBytes();
+		tickStart = System.nanoTime();
+	}
+
+	public static void onTickEnd() {
+		if (ACTIVE.isEmpty()) {
+			return;
+		}
+
+		long nanos = System.nanoTime() - tickStart;
+		long allocated = ALLOCATION_BEAN != null ? getAllocatedBytes() - tickStartAllocated : 0;
+
+		// Measurements stop by themselves, even if the test failed or timed out before evaluating them
+		ACTIVE.removeIf(measurement -> measurement.record(nanos, allocated));
+	}
+
+	public static void onEntityTickStart() {
+		if (!ACTIVE.isEmpty()) {
+			entityStart = System.nanoTime();
+		}
+	}
+
+	public static void onEntityTickEnd() {
+		if (!ACTIVE.isEmpty()) {
+			entityNanos += System.nanoTime() - entityStart;
+		}
+	}
+
+	public static void onBlockEntityTickStart() {
+		if (!ACTIVE.isEmpty()) {
+			blockEntityStart = System.nanoTime();
+		}
+	}
+
+	public static void onBlockEntityTickEnd() {
+		if (!ACTIVE.isEmpty()) {
+			blockEntityNanos += System.nanoTime() - blockEntityStart;
+		}
+	}
+
+	/**
+	 * Records a server tick.
+	 *
+	 * @return whether the measurement is done
+	 */
+	private boolean record(long nanos, long allocated) {
+		// The first tick is partial, as the test was set up in the middle of it
+		if (ticks++ > config.warmupTicks()) {
+			measuredTicks++;
+			tickNanos += nanos;
+			measuredEntityNanos += entityNanos;
+			measuredBlockEntityNanos += blockEntityNanos;
+			allocatedBytes += allocated;
+		}
+
+		return ticks > config.warmupTicks() + config.measuredTicks();
+	}
+
+	/**
+	 * Stops the measurement, and checks the results against the limits of the test.
+	 *
+	 * @throws GameTestException if a limit is exceeded
+	 */
+	public void evaluate() {
+		ACTIVE.remove(this);
+
+		if (measuredTicks == 0) {
+			throw new GameTestException("Performance test %s did not measure any tick".formatted(name));
+		}
+
+		double averageTickMillis = tickNanos / NANOS_PER_MILLI / measuredTicks;
+		double averageEntityTickMillis = measuredEntityNanos / NANOS_PER_MILLI / measuredTicks;
+		double averageBlockEntityTickMillis = measuredBlockEntityNanos / NANOS_PER_MILLI / measuredTicks;
+		long allocatedBytesPerTick = ALLOCATION_BEAN != null ? allocatedBytes / measuredTicks : -1;
+
+		String summary = String.format(Locale.ROOT, "%.3f ms/tick (entities %.3f ms, block entities %.3f ms), %d bytes allocated/tick over %d ticks",
+				averageTickMillis, averageEntityTickMillis, averageBlockEntityTickMillis, allocatedBytesPerTick, measuredTicks);
+		LOGGER.info("Performance test {}: {}", name, summary);
+
+		List<String> failures = new ArrayList<>();
+		checkLimit(failures, "average tick time", averageTickMillis, config.maxAverageTickMillis(), "ms");
+		checkLimit(failures, "average entity tick time", averageEntityTickMillis, config.maxAverageEntityTickMillis(), "ms");
+		checkLimit(failures, "average block entity tick time", averageBlockEntityTickMillis, config.maxAverageBlockEntityTickMillis(), "ms");
+
+		if (config.maxAllocatedBytesPerTick() > 0) {
+			if (ALLOCATION_BEAN == null) {
+				LOGGER.warn("Performance test {} has an allocation limit, but allocation measurement is not supported by this JVM", name);
+			} else if (allocatedBytesPerTick > config.maxAllocatedBytesPerTick()) {
+				failures.add("allocated %d bytes/tick, limit is %d".formatted(allocatedBytesPerTick, config.maxAllocatedBytesPerTick()));
+			}
+		}
+
+		JsonObject result = new JsonObject();
+		result.addProperty("name", name);
+		result.addProperty("measuredTicks", measuredTicks);
+		result.addProperty("averageTickMillis", averageTickMillis);
+		result.addProperty("averageEntityTickMillis", averageEntityTickMillis);
+		result.addProperty("averageBlockEntityTickMillis", averageBlockEntityTickMillis);
+		result.addProperty("allocatedBytesPerTick", allocatedBytesPerTick);
+		result.addProperty("passed", failures.isEmpty());
+		REPORT.put(name, result);
+		writeReport();
+
+		if (!failures.isEmpty()) {
+			throw new GameTestException("Performance test %s failed: %s (%s)".formatted(name, String.join(", ", failures), summary));
+		}
+	}
+
+	private static void checkLimit(List<String> failures, String description, double value, double limit, String unit) {
+		if (limit > 0 && value > limit) {
+			failures.add(String.format(Locale.ROOT, "%s %.3f %s, limit is %.3f %s", description, value, unit, limit, unit));
+		}
+	}
+
+	private static void writeReport() {
+		String reportPath = System.getProperty("fabric-api.gametest.report-file");
+
+		if (reportPath == null) {
+			return;
+		}
+
+		Path path = Path.of(reportPath.endsWith(".xml") ? reportPath.substring(0, reportPath.length() - 4) + "-performance.json" : reportPath + "-performance.json");
+
+		try {
+			Files.createDirectories(path.toAbsolutePath().getParent());
+
+			JsonArray report = new JsonArray();
+			REPORT.values().forEach(report::add);
+
+			try (Writer writer = Files.newBufferedWriter(path)) {
+				GSON.toJson(report, writer);
+			}
+		} catch (IOException e) {
+			LOGGER.error("Failed to write performance report to {}", path, e);
+		}
+	}
+
+	private static long getAllocatedBytes() {
+		return ALLOCATION_BEAN != null ? ALLOCATION_BEAN.getCurrentThreadAllocatedBytes() : 0;
+	}
+
+	@Nullable
+	private static com.sun.management.ThreadMXBean getAllocationBean() {
+		ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+		if (bean instanceof com.sun.management.ThreadMXBean allocationBean && allocationBean.isThreadAllocatedMemorySupported()) {
+			if (!allocationBean.isThreadAllocatedMemoryEnabled()) {
+				allocationBean.setThreadAllocatedMemoryEnabled(true);
+			}
+
+			return allocationBean;
+		}
+
+		return null;
+	}
+}
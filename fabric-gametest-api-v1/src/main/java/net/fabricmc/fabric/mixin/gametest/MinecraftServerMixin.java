@@ -30,12 +30,24 @@ import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.ServerTickManager;
 import net.minecraft.test.TestManager;
 
+import net.fabricmc.fabric.impl.gametest.PerformanceMeasurement;
+
 @Mixin(MinecraftServer.class)
 public abstract class MinecraftServerMixin {
 	@Shadow
 	@Final
 	private ServerTickManager tickManager;
 
+	@Inject(method = "tick", at = @At("HEAD"))
+	private void startTick(BooleanSupplier shouldKeepTicking, CallbackInfo callbackInfo) {
+		PerformanceMeasurement.onTickStart();
+	}
+
+	@Inject(method = "tick", at = @At("TAIL"))
+	private void endTick(BooleanSupplier shouldKeepTicking, CallbackInfo callbackInfo) {
+		PerformanceMeasurement.onTickEnd();
+	}
+
 	@Inject(method = "tickWorlds", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/PlayerManager;updatePlayerLatency()V", shift = At.Shift.AFTER))
 	private void tickWorlds(BooleanSupplier shouldKeepTicking, CallbackInfo callbackInfo) {
 		// Called by vanilla when isDevelopment is enabled.
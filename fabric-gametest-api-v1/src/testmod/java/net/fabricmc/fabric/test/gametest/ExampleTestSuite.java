@@ -22,6 +22,7 @@ import net.minecraft.test.TestContext;
 import net.minecraft.util.math.BlockPos;
 
 import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.fabricmc.fabric.api.gametest.v1.PerformanceGameTest;
 
 public class ExampleTestSuite {
 	@GameTest
@@ -39,4 +40,15 @@ public class ExampleTestSuite {
 				context.checkBlock(new BlockPos(0, 2, 0), (block) -> block == Blocks.DIAMOND_BLOCK, "Expect block to be diamond")
 		);
 	}
+
+	// Only reports the measurements, as wall-clock limits would depend on the machine running the tests
+	@PerformanceGameTest(warmupTicks = 10, measuredTicks = 40)
+	@GameTest(templateName = FabricGameTest.EMPTY_STRUCTURE, batchId = "performance", tickLimit = 100)
+	public void hoppers(TestContext context) {
+		for (int x = 0; x < 8; x++) {
+			for (int z = 0; z < 8; z++) {
+				context.setBlockState(x, 1, z, Blocks.HOPPER);
+			}
+		}
+	}
 }
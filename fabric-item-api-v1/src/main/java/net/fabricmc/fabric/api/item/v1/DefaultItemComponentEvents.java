@@ -43,6 +43,14 @@ public final class DefaultItemComponentEvents {
 	private DefaultItemComponentEvents() {
 	}
 
+	/**
+	 * Context used to modify the default components of items.
+	 *
+	 * <p>Modifications are applied in the order they are registered, and both item predicates and consumers
+	 * see the changes made by previous modifications when reading {@link Item#getComponents()}.
+	 * All consumers matching an item modify the same builder, and the final component map of the item
+	 * is only built once every listener has run.
+	 */
 	public interface ModifyContext {
 		/**
 		 * Modify the default data components of the specified item.
@@ -16,10 +16,20 @@
 
 package net.fabricmc.fabric.impl.item;
 
+import java.util.Collection;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
+import it.unimi.dsi.fastutil.objects.Reference2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
+import org.jetbrains.annotations.Nullable;
+
 import net.minecraft.component.ComponentMap;
+import net.minecraft.component.ComponentType;
 import net.minecraft.item.Item;
 import net.minecraft.registry.Registries;
 
@@ -28,24 +38,108 @@ import net.fabricmc.fabric.mixin.item.ItemAccessor;
 
 public class DefaultItemComponentImpl {
 	public static void modifyItemComponents() {
-		DefaultItemComponentEvents.MODIFY.invoker().modify(ModifyContextImpl.INSTANCE);
+		var context = new ModifyContextImpl();
+		DefaultItemComponentEvents.MODIFY.invoker().modify(context);
+		context.finish();
 	}
 
+	/**
+	 * Applies each modification as soon as it is registered, but keeps a single builder per modified item,
+	 * so that its component map is only copied once and built once every listener has run.
+	 */
 	static class ModifyContextImpl implements DefaultItemComponentEvents.ModifyContext {
-		private static final ModifyContextImpl INSTANCE = new ModifyContextImpl();
+		private final Map<Item, PendingComponentMap> pending = new Reference2ObjectLinkedOpenHashMap<>();
 
 		private ModifyContextImpl() {
 		}
 
 		@Override
 		public void modify(Predicate<Item> itemPredicate, BiConsumer<ComponentMap.Builder, Item> builderConsumer) {
+			Objects.requireNonNull(itemPredicate, "item predicate cannot be null");
+			Objects.requireNonNull(builderConsumer, "builder consumer cannot be null");
+
 			for (Item item : Registries.ITEM) {
 				if (itemPredicate.test(item)) {
-					ComponentMap.Builder builder = ComponentMap.builder().addAll(item.getComponents());
-					builderConsumer.accept(builder, item);
-					((ItemAccessor) item).setComponents(builder.build());
+					apply(item, builderConsumer);
 				}
 			}
 		}
+
+		@Override
+		public void modify(Item item, Consumer<ComponentMap.Builder> builderConsumer) {
+			Objects.requireNonNull(item, "item cannot be null");
+			Objects.requireNonNull(builderConsumer, "builder consumer cannot be null");
+
+			apply(item, (builder, _item) -> builderConsumer.accept(builder));
+		}
+
+		@Override
+		public void modify(Collection<Item> items, BiConsumer<ComponentMap.Builder, Item> builderConsumer) {
+			Objects.requireNonNull(items, "items cannot be null");
+			Objects.requireNonNull(builderConsumer, "builder consumer cannot be null");
+
+			// Only modify each item once, like testing items::contains would
+			for (Item item : new ReferenceLinkedOpenHashSet<>(items)) {
+				apply(item, builderConsumer);
+			}
+		}
+
+		private void apply(Item item, BiConsumer<ComponentMap.Builder, Item> builderConsumer) {
+			PendingComponentMap components = pending.get(item);
+
+			if (components == null) {
+				components = new PendingComponentMap(ComponentMap.builder().addAll(item.getComponents()));
+				pending.put(item, components);
+				((ItemAccessor) item).setComponents(components);
+			}
+
+			components.modify(builder -> builderConsumer.accept(builder, item));
+		}
+
+		private void finish() {
+			for (Map.Entry<Item, PendingComponentMap> entry : pending.entrySet()) {
+				((ItemAccessor) entry.getKey()).setComponents(entry.getValue().delegate());
+			}
+
+			pending.clear();
+		}
+	}
+
+	/**
+	 * Stands in for the components of an item while they are being modified.
+	 * Reading it builds the modifications made so far, so other listeners still see them.
+	 */
+	private static final class PendingComponentMap implements ComponentMap {
+		private final ComponentMap.Builder builder;
+		@Nullable
+		private ComponentMap built;
+
+		private PendingComponentMap(ComponentMap.Builder builder) {
+			this.builder = builder;
+		}
+
+		private void modify(Consumer<ComponentMap.Builder> builderConsumer) {
+			builderConsumer.accept(builder);
+			built = null;
+		}
+
+		private ComponentMap delegate() {
+			if (built == null) {
+				built = builder.build();
+			}
+
+			return built;
+		}
+
+		@Override
+		@Nullable
+		public <T> T get(ComponentType<? extends T> type) {
+			return delegate().get(type);
+		}
+
+		@Override
+		public Set<ComponentType<?>> getTypes() {
+			return delegate().getTypes();
+		}
 	}
 }
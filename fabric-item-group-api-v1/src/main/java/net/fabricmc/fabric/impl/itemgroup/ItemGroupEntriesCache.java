@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.itemgroup;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.item.ItemGroup;
+import net.minecraft.item.ItemStack;
+import net.minecraft.registry.RegistryWrapper;
+import net.minecraft.resource.featuretoggle.FeatureSet;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.CommonLifecycleEvents;
+
+/**
+ * Caches the entries of an item group, after they were modified by the events, for each display context.
+ *
+ * <p>Vanilla recomputes all entries whenever the display context changes, which happens back and forth when toggling
+ * the operator items tab option or switching between worlds with different enabled features. Entries only depend on
+ * the context and the loaded data, so they are kept for every context seen with the current registries, and dropped
+ * when the registries change or tags are (re)loaded, for example after a data pack reload or tag sync.
+ */
+public final class ItemGroupEntriesCache {
+	private final Map<Key, Entries> entries = new HashMap<>();
+	@Nullable
+	private RegistryWrapper.WrapperLookup lookup;
+	private volatile boolean tagsReloaded = false;
+
+	public ItemGroupEntriesCache() {
+		// Entries can depend on tags, which don't change the registry lookup when reloaded.
+		CommonLifecycleEvents.TAGS_LOADED.register((registries, client) -> {
+			tagsReloaded = true;
+		});
+	}
+
+	@Nullable
+	public Entries get(ItemGroup.DisplayContext context) {
+		if (tagsReloaded || lookup != context.lookup()) {
+			tagsReloaded = false;
+			entries.clear();
+			lookup = context.lookup();
+			return null;
+		}
+
+		return entries.get(new Key(context.enabledFeatures(), context.hasPermissions()));
+	}
+
+	public void put(ItemGroup.DisplayContext context, Collection<ItemStack> displayStacks, Set<ItemStack> searchTabStacks) {
+		if (lookup == context.lookup()) {
+			entries.put(new Key(context.enabledFeatures(), context.hasPermissions()), new Entries(displayStacks, searchTabStacks));
+		}
+	}
+
+	public record Entries(Collection<ItemStack> displayStacks, Set<ItemStack> searchTabStacks) {
+	}
+
+	private record Key(FeatureSet enabledFeatures, boolean hasPermissions) {
+	}
+}
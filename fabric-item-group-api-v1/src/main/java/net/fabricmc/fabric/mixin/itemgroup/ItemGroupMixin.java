@@ -38,6 +38,7 @@ import net.fabricmc.fabric.api.event.Event;
 import net.fabricmc.fabric.api.itemgroup.v1.FabricItemGroupEntries;
 import net.fabricmc.fabric.api.itemgroup.v1.ItemGroupEvents;
 import net.fabricmc.fabric.impl.itemgroup.FabricItemGroupImpl;
+import net.fabricmc.fabric.impl.itemgroup.ItemGroupEntriesCache;
 import net.fabricmc.fabric.impl.itemgroup.ItemGroupEventsImpl;
 
 @Mixin(ItemGroup.class)
@@ -51,6 +52,27 @@ abstract class ItemGroupMixin implements FabricItemGroupImpl {
 	@Unique
 	private int page = -1;
 
+	@Unique
+	private final ItemGroupEntriesCache entriesCache = new ItemGroupEntriesCache();
+
+	@Inject(method = "updateEntries", at = @At("HEAD"), cancellable = true)
+	private void useCachedEntries(ItemGroup.DisplayContext context, CallbackInfo ci) {
+		final ItemGroup self = (ItemGroup) (Object) this;
+
+		// Special item groups are not modified, and may depend on more than the context (like saved hotbars).
+		if (self.isSpecial() && Registries.ITEM_GROUP.getKey(self).orElse(null) != ItemGroups.OPERATOR) {
+			return;
+		}
+
+		ItemGroupEntriesCache.Entries cached = entriesCache.get(context);
+
+		if (cached != null) {
+			displayStacks = cached.displayStacks();
+			searchTabStacks = cached.searchTabStacks();
+			ci.cancel();
+		}
+	}
+
 	@SuppressWarnings("ConstantConditions")
 	@Inject(method = "updateEntries", at = @At("TAIL"))
 	public void getStacks(ItemGroup.DisplayContext context, CallbackInfo ci) {
@@ -88,6 +110,8 @@ abstract class ItemGroupMixin implements FabricItemGroupImpl {
 
 		searchTabStacks.clear();
 		searchTabStacks.addAll(mutableSearchTabStacks);
+
+		entriesCache.put(context, displayStacks, searchTabStacks);
 	}
 
 	@Override
@@ -16,6 +16,10 @@
 
 package net.fabricmc.fabric.api.loot.v3;
 
+import java.util.Collection;
+import java.util.Set;
+import java.util.function.Predicate;
+
 import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.loot.LootTable;
@@ -23,6 +27,7 @@ import net.minecraft.registry.Registry;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.registry.RegistryWrapper;
 import net.minecraft.resource.ResourceManager;
+import net.minecraft.util.Identifier;
 
 import net.fabricmc.fabric.api.event.Event;
 import net.fabricmc.fabric.api.event.EventFactory;
@@ -80,10 +85,40 @@ public final class LootTableEvents {
 	 *     }
 	 * });
 	 * }
+	 *
+	 * <h2>Targeted listeners</h2>
+	 * Every loot table is normally copied into a builder and rebuilt so that it can be passed to this event.
+	 * Listeners that only care about a few loot tables can declare which ones they target,
+	 * using {@link Modify#forKeys}, {@link Modify#forNamespace} or {@link Modify#filtered}.
+	 * If none of the registered listeners target a loot table, it is left as-is and never copied.
+	 * {@snippet :
+	 * LootTableEvents.MODIFY.register(LootTableEvents.Modify.forKeys(
+	 *     List.of(Blocks.COBBLESTONE.getLootTableKey().orElseThrow()),
+	 *     (key, tableBuilder, source, registries) -> {
+	 *         // Only ever called for the cobblestone loot table.
+	 *     }
+	 * ));
+	 * }
 	 */
-	public static final Event<Modify> MODIFY = EventFactory.createArrayBacked(Modify.class, listeners -> (key, tableBuilder, source, registries) -> {
-		for (Modify listener : listeners) {
-			listener.modifyLootTable(key, tableBuilder, source, registries);
+	public static final Event<Modify> MODIFY = EventFactory.createArrayBacked(Modify.class, listeners -> new Modify() {
+		@Override
+		public void modifyLootTable(RegistryKey<LootTable> key, LootTable.Builder tableBuilder, LootTableSource source, RegistryWrapper.WrapperLookup registries) {
+			for (Modify listener : listeners) {
+				if (listener.modifiesLootTable(key)) {
+					listener.modifyLootTable(key, tableBuilder, source, registries);
+				}
+			}
+		}
+
+		@Override
+		public boolean modifiesLootTable(RegistryKey<LootTable> key) {
+			for (Modify listener : listeners) {
+				if (listener.modifiesLootTable(key)) {
+					return true;
+				}
+			}
+
+			return false;
 		}
 	});
 
@@ -122,6 +157,69 @@ public final class LootTableEvents {
 		 * @param registries      the registry wrapper lookup
 		 */
 		void modifyLootTable(RegistryKey<LootTable> key, LootTable.Builder tableBuilder, LootTableSource source, RegistryWrapper.WrapperLookup registries);
+
+		/**
+		 * Checks whether this listener wants to modify a loot table.
+		 *
+		 * <p>If this returns {@code false}, {@link #modifyLootTable} will not be called for that loot table.
+		 * When no listener targets a loot table, it is not copied into a builder at all.
+		 * Implementations must be cheap and free of side effects.
+		 *
+		 * @param key the loot table key
+		 * @return {@code true} if this listener should be called for the loot table, {@code false} otherwise
+		 */
+		default boolean modifiesLootTable(RegistryKey<LootTable> key) {
+			return true;
+		}
+
+		/**
+		 * Creates a listener that is only called for loot tables matching a filter.
+		 *
+		 * @param filter   the filter on loot table keys
+		 * @param listener the listener to call for matching loot tables
+		 * @return the filtered listener
+		 */
+		static Modify filtered(Predicate<RegistryKey<LootTable>> filter, Modify listener) {
+			return new Modify() {
+				@Override
+				public void modifyLootTable(RegistryKey<LootTable> key, LootTable.Builder tableBuilder, LootTableSource source, RegistryWrapper.WrapperLookup registries) {
+					listener.modifyLootTable(key, tableBuilder, source, registries);
+				}
+
+				@Override
+				public boolean modifiesLootTable(RegistryKey<LootTable> key) {
+					return filter.test(key) && listener.modifiesLootTable(key);
+				}
+
+				@Override
+				public String toString() {
+					return listener.toString();
+				}
+			};
+		}
+
+		/**
+		 * Creates a listener that is only called for the given loot tables.
+		 *
+		 * @param keys     the keys of the targeted loot tables
+		 * @param listener the listener to call for the targeted loot tables
+		 * @return the filtered listener
+		 */
+		static Modify forKeys(Collection<RegistryKey<LootTable>> keys, Modify listener) {
+			Set<RegistryKey<LootTable>> targets = Set.copyOf(keys);
+			return filtered(targets::contains, listener);
+		}
+
+		/**
+		 * Creates a listener that is only called for loot tables in the given namespace.
+		 *
+		 * @param namespace the namespace of the targeted loot tables, for example {@link Identifier#DEFAULT_NAMESPACE}
+		 * @param listener  the listener to call for the targeted loot tables
+		 * @return the filtered listener
+		 */
+		static Modify forNamespace(String namespace, Modify listener) {
+			return filtered(key -> key.getValue().getNamespace().equals(namespace), listener);
+		}
 	}
 
 	@FunctionalInterface
@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.loot;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.loot.LootTable;
+import net.minecraft.registry.RegistryKey;
+import net.minecraft.registry.RegistryWrapper;
+
+import net.fabricmc.fabric.api.loot.v3.LootTableEvents;
+import net.fabricmc.fabric.api.loot.v3.LootTableSource;
+
+/**
+ * Collects how long each {@link LootTableEvents#MODIFY} listener took and how many loot tables it changed,
+ * as well as how many loot tables were rebuilt or not targeted by any listener, when enabled with {@code -Dfabric.loot.debug=true}.
+ */
+public final class LootModifyStats {
+	public static final boolean ENABLED = Boolean.getBoolean("fabric.loot.debug");
+	private static final Logger LOGGER = LoggerFactory.getLogger(LootModifyStats.class);
+
+	private static final Map<LootTableEvents.Modify, ListenerStats> LISTENERS = new ConcurrentHashMap<>();
+	private static final AtomicInteger REBUILT_TABLES = new AtomicInteger();
+	private static final LongAdder REBUILD_NANOS = new LongAdder();
+	private static final AtomicInteger SKIPPED_TABLES = new AtomicInteger();
+
+	private LootModifyStats() {
+	}
+
+	/**
+	 * Creates a {@link LootTableEvents#MODIFY} invoker that calls the listeners like the regular one, and times each of them.
+	 */
+	public static LootTableEvents.Modify createTimedInvoker(LootTableEvents.Modify[] listeners) {
+		return new LootTableEvents.Modify() {
+			@Override
+			public void modifyLootTable(RegistryKey<LootTable> key, LootTable.Builder tableBuilder, LootTableSource source, RegistryWrapper.WrapperLookup registries) {
+				for (LootTableEvents.Modify listener : listeners) {
+					if (listener.modifiesLootTable(key)) {
+						long start = System.nanoTime();
+						listener.modifyLootTable(key, tableBuilder, source, registries);
+						recordListener(listener, System.nanoTime() - start);
+					}
+				}
+			}
+
+			@Override
+			public boolean modifiesLootTable(RegistryKey<LootTable> key) {
+				for (LootTableEvents.Modify listener : listeners) {
+					if (listener.modifiesLootTable(key)) {
+						return true;
+					}
+				}
+
+				return false;
+			}
+		};
+	}
+
+	private static void recordListener(LootTableEvents.Modify listener, long nanos) {
+		ListenerStats stats = LISTENERS.computeIfAbsent(listener, l -> new ListenerStats());
+		stats.nanos.add(nanos);
+		stats.tables.increment();
+	}
+
+	public static void recordRebuiltTable(long nanos) {
+		REBUILT_TABLES.incrementAndGet();
+		REBUILD_NANOS.add(nanos);
+	}
+
+	public static void recordSkippedTable() {
+		SKIPPED_TABLES.incrementAndGet();
+	}
+
+	public static void report() {
+		LOGGER.info("Loot table modification: {} tables rebuilt in {} ms, {} tables not targeted by any listener", REBUILT_TABLES.getAndSet(0), TimeUnit.NANOSECONDS.toMillis(REBUILD_NANOS.sumThenReset()), SKIPPED_TABLES.getAndSet(0));
+
+		LISTENERS.entrySet().stream()
+				.sorted(Comparator.comparingLong((Map.Entry<LootTableEvents.Modify, ListenerStats> entry) -> entry.getValue().nanos.sum()).reversed())
+				.forEach(entry -> LOGGER.info("  {}: {} us, {} tables changed", entry.getKey(), TimeUnit.NANOSECONDS.toMicros(entry.getValue().nanos.sum()), entry.getValue().tables.sum()));
+		LISTENERS.clear();
+	}
+
+	private static final class ListenerStats {
+		private final LongAdder nanos = new LongAdder();
+		private final LongAdder tables = new LongAdder();
+	}
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.mixin.loot;
+
+import java.util.function.Function;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.ModifyArg;
+
+import net.fabricmc.fabric.api.loot.v3.LootTableEvents;
+import net.fabricmc.fabric.impl.loot.LootModifyStats;
+
+/**
+ * Times the {@link LootTableEvents#MODIFY} listeners when {@link LootModifyStats} is enabled,
+ * without the API class having to know about it.
+ */
+@Mixin(LootTableEvents.class)
+abstract class LootTableEventsMixin {
+	// MODIFY is the second event created, after REPLACE.
+	@ModifyArg(method = "<clinit>", at = @At(value = "INVOKE", target = "Lnet/fabricmc/fabric/api/event/EventFactory;createArrayBacked(Ljava/lang/Class;Ljava/util/function/Function;)Lnet/fabricmc/fabric/api/event/Event;", ordinal = 1), index = 1)
+	private static Function<LootTableEvents.Modify[], LootTableEvents.Modify> timeModifyListeners(Function<LootTableEvents.Modify[], LootTableEvents.Modify> invokerFactory) {
+		return LootModifyStats.ENABLED ? LootModifyStats::createTimedInvoker : invokerFactory;
+	}
+}
@@ -51,6 +51,7 @@ import net.minecraft.util.Identifier;
 import net.fabricmc.fabric.api.loot.v3.FabricLootTableBuilder;
 import net.fabricmc.fabric.api.loot.v3.LootTableEvents;
 import net.fabricmc.fabric.api.loot.v3.LootTableSource;
+import net.fabricmc.fabric.impl.loot.LootModifyStats;
 import net.fabricmc.fabric.impl.loot.LootUtil;
 
 /**
@@ -103,11 +104,29 @@ abstract class ReloadableRegistriesMixin {
 			source = LootTableSource.REPLACED;
 		}
 
+		LootTableEvents.Modify modify = LootTableEvents.MODIFY.invoker();
+
+		// Don't copy and rebuild loot tables that no listener wants to modify.
+		if (!modify.modifiesLootTable(key)) {
+			if (LootModifyStats.ENABLED) {
+				LootModifyStats.recordSkippedTable();
+			}
+
+			return (T) table;
+		}
+
+		long start = LootModifyStats.ENABLED ? System.nanoTime() : 0L;
+
 		// Turn the current table into a modifiable builder and invoke the MODIFY event.
 		LootTable.Builder builder = FabricLootTableBuilder.copyOf(table);
-		LootTableEvents.MODIFY.invoker().modifyLootTable(key, builder, source, registries);
+		modify.modifyLootTable(key, builder, source, registries);
+		LootTable modified = builder.build();
 
-		return (T) builder.build();
+		if (LootModifyStats.ENABLED) {
+			LootModifyStats.recordRebuiltTable(System.nanoTime() - start);
+		}
+
+		return (T) modified;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -117,5 +136,9 @@ abstract class ReloadableRegistriesMixin {
 
 		LootTableEvents.ALL_LOADED.invoker().onLootTablesLoaded(resourceManager, (Registry<LootTable>) cir.getReturnValue());
 		LootUtil.SOURCES.remove();
+
+		if (LootModifyStats.ENABLED) {
+			LootModifyStats.report();
+		}
 	}
 }
@@ -16,6 +16,7 @@
 
 package net.fabricmc.fabric.test.loot;
 
+import java.util.List;
 import java.util.Optional;
 
 import net.minecraft.block.Blocks;
@@ -114,6 +115,19 @@ public class LootTest implements ModInitializer {
 			}
 		});
 
+		// Test that targeted listeners are only called for the loot tables they declare
+		LootTableEvents.MODIFY.register(LootTableEvents.Modify.forKeys(List.of(Blocks.GREEN_WOOL.getLootTableKey().orElseThrow()), (key, tableBuilder, source, registries) -> {
+			if (Blocks.GREEN_WOOL.getLootTableKey().orElse(null) != key) {
+				throw new AssertionError("targeted listener should only be called for green wool, got " + key);
+			}
+
+			tableBuilder.pool(LootPool.builder().with(ItemEntry.builder(Items.LAPIS_LAZULI).build()).build());
+		}));
+
+		LootTableEvents.MODIFY.register(LootTableEvents.Modify.forNamespace("nonexistent", (key, tableBuilder, source, registries) -> {
+			throw new AssertionError("listener for an unused namespace should never be called, got " + key);
+		}));
+
 		LootTableEvents.ALL_LOADED.register((resourceManager, lootRegistry) -> {
 			Optional<LootTable> blackWoolTable = lootRegistry.getOptionalValue(Blocks.BLACK_WOOL.getLootTableKey().orElse(null));
 
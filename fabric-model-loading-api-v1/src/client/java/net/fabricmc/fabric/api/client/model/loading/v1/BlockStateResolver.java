@@ -43,11 +43,26 @@ public interface BlockStateResolver {
 	 * <p>For each block state, call {@link Context#setModel} to set its unbaked model.
 	 * This method must be called exactly once for each block state.
 	 *
-	 * <p>Note that if multiple block states share the same unbaked model instance, it will be baked multiple times
-	 * (once per block state that has the model set).
+	 * <p>If multiple block states share the same unbaked model instance, it is only baked once and the resulting
+	 * baked model is shared, unless a {@linkplain ModelModifier.BeforeBakeBlock before bake modifier} replaces it.
 	 */
 	void resolveBlockStates(Context context);
 
+	/**
+	 * Whether this resolver can be invoked concurrently for different blocks, on different threads.
+	 *
+	 * <p>Thread-safe resolvers are run in parallel on the resource reload executor. Their output is merged back
+	 * in registration order, so the result is the same as if they were run sequentially. Resolvers that are not
+	 * thread-safe are always run one after another.
+	 *
+	 * <p>Return {@code true} only if {@link #resolveBlockStates} does not mutate any state shared with other calls.
+	 *
+	 * @return {@code true} if this resolver is thread-safe, {@code false} otherwise
+	 */
+	default boolean isThreadSafe() {
+		return false;
+	}
+
 	/**
 	 * The context for block state resolution.
 	 */
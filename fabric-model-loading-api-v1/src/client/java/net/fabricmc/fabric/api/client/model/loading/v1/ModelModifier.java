@@ -196,6 +196,18 @@ public final class ModelModifier {
 		 */
 		GroupableModel modifyModelOnLoad(GroupableModel model, Context context);
 
+		/**
+		 * Whether this modifier can be invoked concurrently for different block models, on different threads.
+		 *
+		 * <p>If every registered on load block modifier is thread-safe, block models are modified in parallel on the
+		 * resource reload executor. Otherwise, all of them are modified one after another.
+		 *
+		 * @return {@code true} if this modifier is thread-safe, {@code false} otherwise
+		 */
+		default boolean isThreadSafe() {
+			return false;
+		}
+
 		/**
 		 * The context for an on load block model modification event.
 		 */
@@ -16,11 +16,17 @@
 
 package net.fabricmc.fabric.impl.client.model.loading;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -54,7 +60,19 @@ public class ModelLoadingEventDispatcher {
 	private static final Logger LOGGER = LoggerFactory.getLogger(ModelLoadingEventDispatcher.class);
 	public static final ThreadLocal<ModelLoadingEventDispatcher> CURRENT = new ThreadLocal<>();
 
+	/**
+	 * Below this many block models, modifying them in parallel is not worth the overhead.
+	 */
+	private static final int PARALLEL_MODIFY_THRESHOLD = 1024;
+
 	private final ModelLoadingPluginContextImpl pluginContext;
+	private final Executor executor;
+
+	/**
+	 * Time spent in each plugin's initializer and block state resolvers, only tracked if debug logging is enabled.
+	 */
+	@Nullable
+	private final Map<ModelLoadingPlugin, LongAdder> pluginTimes;
 
 	private final BlockStateResolverContext blockStateResolverContext = new BlockStateResolverContext();
 
@@ -66,16 +84,27 @@ public class ModelLoadingEventDispatcher {
 	private final BeforeBakeBlockModifierContext beforeBakeBlockModifierContext = new BeforeBakeBlockModifierContext();
 	private final AfterBakeBlockModifierContext afterBakeBlockModifierContext = new AfterBakeBlockModifierContext();
 
-	public ModelLoadingEventDispatcher(List<ModelLoadingPlugin> plugins) {
+	public ModelLoadingEventDispatcher(List<ModelLoadingPlugin> plugins, Executor executor) {
 		this.pluginContext = new ModelLoadingPluginContextImpl();
+		this.executor = executor;
+		this.pluginTimes = LOGGER.isDebugEnabled() ? new IdentityHashMap<>() : null;
 
 		for (ModelLoadingPlugin plugin : plugins) {
+			long start = System.nanoTime();
+			pluginContext.currentPlugin = plugin;
+
 			try {
 				plugin.initialize(pluginContext);
 			} catch (Exception exception) {
 				LOGGER.error("Failed to initialize model loading plugin", exception);
 			}
+
+			if (pluginTimes != null) {
+				pluginTimes.computeIfAbsent(plugin, p -> new LongAdder()).add(System.nanoTime() - start);
+			}
 		}
+
+		pluginContext.currentPlugin = null;
 	}
 
 	public void forEachExtraModel(Consumer<Identifier> extraModelConsumer) {
@@ -126,21 +155,60 @@ public class ModelLoadingEventDispatcher {
 
 		putResolvedBlockStates(map);
 
-		map.replaceAll((id, blockModel) -> {
-			GroupableModel original = blockModel.model();
-			GroupableModel modified = modifyBlockModelOnLoad(original, id, blockModel.state());
+		ModelModifier.OnLoadBlock modifier = pluginContext.modifyBlockModelOnLoad().invoker();
+		long start = System.nanoTime();
 
-			if (original != modified) {
-				return new BlockStatesLoader.BlockModel(blockModel.state(), modified);
-			}
+		if (map.size() >= PARALLEL_MODIFY_THRESHOLD && modifier.isThreadSafe()) {
+			modifyBlockModelsOnLoadParallel(map);
+		} else {
+			map.replaceAll((id, blockModel) -> modifyBlockModelOnLoad(blockModel, id, onLoadBlockModifierContext));
+		}
 
-			return blockModel;
-		});
+		if (pluginTimes != null) {
+			LOGGER.debug("Modified {} block models on load in {} ms", map.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+			pluginTimes.forEach((plugin, time) -> LOGGER.debug("Model loading plugin {} took {} ms", plugin, TimeUnit.NANOSECONDS.toMillis(time.sum())));
+		}
 
 		return models;
 	}
 
+	private void modifyBlockModelsOnLoadParallel(Map<ModelIdentifier, BlockStatesLoader.BlockModel> map) {
+		List<Map.Entry<ModelIdentifier, BlockStatesLoader.BlockModel>> entries = new ArrayList<>(map.entrySet());
+		int batchCount = Math.max(1, Runtime.getRuntime().availableProcessors());
+		int batchSize = (entries.size() + batchCount - 1) / batchCount;
+		List<CompletableFuture<Void>> futures = new ArrayList<>(batchCount);
+
+		for (int i = 0; i < entries.size(); i += batchSize) {
+			List<Map.Entry<ModelIdentifier, BlockStatesLoader.BlockModel>> batch = entries.subList(i, Math.min(i + batchSize, entries.size()));
+
+			futures.add(CompletableFuture.runAsync(() -> {
+				OnLoadBlockModifierContext context = new OnLoadBlockModifierContext();
+
+				// Only values are replaced, which does not structurally modify the map.
+				for (Map.Entry<ModelIdentifier, BlockStatesLoader.BlockModel> entry : batch) {
+					entry.setValue(modifyBlockModelOnLoad(entry.getValue(), entry.getKey(), context));
+				}
+			}, executor));
+		}
+
+		CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+	}
+
+	private BlockStatesLoader.BlockModel modifyBlockModelOnLoad(BlockStatesLoader.BlockModel blockModel, ModelIdentifier id, OnLoadBlockModifierContext context) {
+		GroupableModel original = blockModel.model();
+		context.prepare(id, blockModel.state());
+		GroupableModel modified = pluginContext.modifyBlockModelOnLoad().invoker().modifyModelOnLoad(original, context);
+
+		if (original != modified) {
+			return new BlockStatesLoader.BlockModel(blockModel.state(), modified);
+		}
+
+		return blockModel;
+	}
+
 	private void putResolvedBlockStates(Map<ModelIdentifier, BlockStatesLoader.BlockModel> map) {
+		List<ResolvedBlock> resolvedBlocks = new ArrayList<>(pluginContext.blockStateResolvers.size());
+
 		pluginContext.blockStateResolvers.forEach((block, resolver) -> {
 			Optional<RegistryKey<Block>> optionalKey = Registries.BLOCK.getKey(block);
 
@@ -149,16 +217,49 @@ public class ModelLoadingEventDispatcher {
 			}
 
 			Identifier blockId = optionalKey.get().getValue();
+			CompletableFuture<List<BlockStatesLoader.BlockModel>> future;
+
+			if (resolver.isThreadSafe()) {
+				future = CompletableFuture.supplyAsync(() -> resolveBlockStates(resolver, block, new BlockStateResolverContext()), executor);
+			} else {
+				future = CompletableFuture.completedFuture(resolveBlockStates(resolver, block, blockStateResolverContext));
+			}
 
-			resolveBlockStates(resolver, block, (state, model) -> {
-				ModelIdentifier modelId = BlockModels.getModelId(blockId, state);
-				map.put(modelId, new BlockStatesLoader.BlockModel(state, model));
-			});
+			resolvedBlocks.add(new ResolvedBlock(blockId, future));
 		});
+
+		// Merge in resolver order, regardless of which thread finished first.
+		for (ResolvedBlock resolvedBlock : resolvedBlocks) {
+			for (BlockStatesLoader.BlockModel blockModel : resolvedBlock.models().join()) {
+				ModelIdentifier modelId = BlockModels.getModelId(resolvedBlock.blockId(), blockModel.state());
+				map.put(modelId, blockModel);
+			}
+		}
+	}
+
+	private List<BlockStatesLoader.BlockModel> resolveBlockStates(BlockStateResolver resolver, Block block, BlockStateResolverContext context) {
+		long start = System.nanoTime();
+		List<BlockStatesLoader.BlockModel> output = new ArrayList<>();
+		resolveBlockStates(resolver, block, context, (state, model) -> output.add(new BlockStatesLoader.BlockModel(state, model)));
+
+		if (pluginTimes != null) {
+			@Nullable
+			ModelLoadingPlugin plugin = pluginContext.blockStateResolverPlugins.get(resolver);
+
+			if (plugin != null) {
+				// The map is fully populated by the constructor, so it is only read here.
+				LongAdder time = pluginTimes.get(plugin);
+
+				if (time != null) {
+					time.add(System.nanoTime() - start);
+				}
+			}
+		}
+
+		return output;
 	}
 
-	private void resolveBlockStates(BlockStateResolver resolver, Block block, BiConsumer<BlockState, GroupableModel> output) {
-		BlockStateResolverContext context = blockStateResolverContext;
+	private static void resolveBlockStates(BlockStateResolver resolver, Block block, BlockStateResolverContext context, BiConsumer<BlockState, GroupableModel> output) {
 		context.prepare(block);
 
 		Reference2ReferenceMap<BlockState, GroupableModel> resolvedModels = context.models;
@@ -194,11 +295,6 @@ public class ModelLoadingEventDispatcher {
 		resolvedModels.clear();
 	}
 
-	private GroupableModel modifyBlockModelOnLoad(GroupableModel model, ModelIdentifier id, BlockState state) {
-		onLoadBlockModifierContext.prepare(id, state);
-		return pluginContext.modifyBlockModelOnLoad().invoker().modifyModelOnLoad(model, onLoadBlockModifierContext);
-	}
-
 	public GroupableModel modifyBlockModelBeforeBake(GroupableModel model, ModelIdentifier id, Baker baker) {
 		beforeBakeBlockModifierContext.prepare(id, baker);
 		return pluginContext.modifyBlockModelBeforeBake().invoker().modifyModelBeforeBake(model, beforeBakeBlockModifierContext);
@@ -209,6 +305,9 @@ public class ModelLoadingEventDispatcher {
 		return pluginContext.modifyBlockModelAfterBake().invoker().modifyModelAfterBake(model, afterBakeBlockModifierContext);
 	}
 
+	private record ResolvedBlock(Identifier blockId, CompletableFuture<List<BlockStatesLoader.BlockModel>> models) {
+	}
+
 	private static class BlockStateResolverContext implements BlockStateResolver.Context {
 		private Block block;
 		private final Reference2ReferenceMap<BlockState, GroupableModel> models = new Reference2ReferenceOpenHashMap<>();
@@ -24,10 +24,12 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import net.minecraft.block.Block;
+import net.minecraft.client.render.model.GroupableModel;
 import net.minecraft.registry.Registries;
 import net.minecraft.registry.RegistryKey;
 import net.minecraft.util.Identifier;
@@ -43,6 +45,9 @@ public class ModelLoadingPluginContextImpl implements ModelLoadingPlugin.Context
 
 	final Set<Identifier> extraModels = new LinkedHashSet<>();
 	final Map<Block, BlockStateResolver> blockStateResolvers = new IdentityHashMap<>();
+	final Map<BlockStateResolver, ModelLoadingPlugin> blockStateResolverPlugins = new IdentityHashMap<>();
+	@Nullable
+	ModelLoadingPlugin currentPlugin;
 
 	private static final Identifier[] MODEL_MODIFIER_PHASES = new Identifier[] { ModelModifier.OVERRIDE_PHASE, ModelModifier.DEFAULT_PHASE, ModelModifier.WRAP_PHASE, ModelModifier.WRAP_LAST_PHASE };
 
@@ -79,16 +84,30 @@ public class ModelLoadingPluginContextImpl implements ModelLoadingPlugin.Context
 
 		return model;
 	}, MODEL_MODIFIER_PHASES);
-	private final Event<ModelModifier.OnLoadBlock> onLoadBlockModifiers = EventFactory.createWithPhases(ModelModifier.OnLoadBlock.class, modifiers -> (model, context) -> {
-		for (ModelModifier.OnLoadBlock modifier : modifiers) {
-			try {
-				model = modifier.modifyModelOnLoad(model, context);
-			} catch (Exception exception) {
-				LOGGER.error("Failed to modify unbaked block model on load", exception);
+	private final Event<ModelModifier.OnLoadBlock> onLoadBlockModifiers = EventFactory.createWithPhases(ModelModifier.OnLoadBlock.class, modifiers -> new ModelModifier.OnLoadBlock() {
+		@Override
+		public GroupableModel modifyModelOnLoad(GroupableModel model, Context context) {
+			for (ModelModifier.OnLoadBlock modifier : modifiers) {
+				try {
+					model = modifier.modifyModelOnLoad(model, context);
+				} catch (Exception exception) {
+					LOGGER.error("Failed to modify unbaked block model on load", exception);
+				}
 			}
+
+			return model;
 		}
 
-		return model;
+		@Override
+		public boolean isThreadSafe() {
+			for (ModelModifier.OnLoadBlock modifier : modifiers) {
+				if (!modifier.isThreadSafe()) {
+					return false;
+				}
+			}
+
+			return true;
+		}
 	}, MODEL_MODIFIER_PHASES);
 	private final Event<ModelModifier.BeforeBakeBlock> beforeBakeBlockModifiers = EventFactory.createWithPhases(ModelModifier.BeforeBakeBlock.class, modifiers -> (model, context) -> {
 		for (ModelModifier.BeforeBakeBlock modifier : modifiers) {
@@ -139,6 +158,10 @@ public class ModelLoadingPluginContextImpl implements ModelLoadingPlugin.Context
 		if (blockStateResolvers.put(block, resolver) != null) {
 			throw new IllegalArgumentException("Duplicate block state resolver for " + block);
 		}
+
+		if (currentPlugin != null) {
+			blockStateResolverPlugins.put(resolver, currentPlugin);
+		}
 	}
 
 	@Override
@@ -69,11 +69,23 @@ public final class ModelLoadingPluginManager {
 
 	private static <T> CompletableFuture<ModelLoadingPlugin> preparePlugin(HolderImpl<T> holder, ResourceManager resourceManager, Executor executor) {
 		CompletableFuture<T> dataFuture = holder.loader.load(resourceManager, executor);
-		return dataFuture.thenApply(data -> pluginContext -> holder.plugin.initialize(data, pluginContext));
+		return dataFuture.thenApply(data -> new PreparedPlugin<>(holder.plugin, data));
 	}
 
 	private ModelLoadingPluginManager() { }
 
 	private record HolderImpl<T>(PreparableModelLoadingPlugin.DataLoader<T> loader, PreparableModelLoadingPlugin<T> plugin) implements PreparableModelLoadingPlugin.Holder<T> {
 	}
+
+	private record PreparedPlugin<T>(PreparableModelLoadingPlugin<T> plugin, T data) implements ModelLoadingPlugin {
+		@Override
+		public void initialize(Context pluginContext) {
+			plugin.initialize(data, pluginContext);
+		}
+
+		@Override
+		public String toString() {
+			return plugin.getClass().getName();
+		}
+	}
 }
@@ -74,7 +74,7 @@ abstract class BakedModelManagerMixin implements FabricBakedModelManager {
 
 	@Inject(method = "reload", at = @At("HEAD"))
 	private void onHeadReload(ResourceReloader.Synchronizer synchronizer, ResourceManager manager, Executor prepareExecutor, Executor applyExecutor, CallbackInfoReturnable<CompletableFuture<Void>> cir) {
-		eventDispatcherFuture = ModelLoadingPluginManager.preparePlugins(manager, prepareExecutor).thenApplyAsync(ModelLoadingEventDispatcher::new);
+		eventDispatcherFuture = ModelLoadingPluginManager.preparePlugins(manager, prepareExecutor).thenApplyAsync(plugins -> new ModelLoadingEventDispatcher(plugins, prepareExecutor));
 	}
 
 	@ModifyReturnValue(method = "reload", at = @At("RETURN"))
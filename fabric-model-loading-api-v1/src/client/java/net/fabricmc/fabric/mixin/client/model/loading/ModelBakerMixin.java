@@ -21,6 +21,7 @@ import java.util.Map;
 
 import com.llamalad7.mixinextras.injector.wrapoperation.Operation;
 import com.llamalad7.mixinextras.injector.wrapoperation.WrapOperation;
+import it.unimi.dsi.fastutil.objects.Reference2ReferenceOpenHashMap;
 import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.spongepowered.asm.mixin.Final;
@@ -54,6 +55,13 @@ abstract class ModelBakerMixin implements ModelBakerHooks {
 	@Nullable
 	private ModelLoadingEventDispatcher fabric_eventDispatcher;
 
+	/**
+	 * Block models baked during the current bake, keyed by unbaked model instance. Block state resolvers and
+	 * modifiers commonly reuse the same unbaked model for many block states, which only needs to be baked once.
+	 */
+	@Unique
+	private final Map<GroupableModel, BakedModel> fabric_bakedBlockModels = new Reference2ReferenceOpenHashMap<>();
+
 	@Inject(method = "<init>", at = @At("RETURN"))
 	private void onReturnInit(CallbackInfo ci) {
 		fabric_eventDispatcher = ModelLoadingEventDispatcher.CURRENT.get();
@@ -66,7 +74,21 @@ abstract class ModelBakerMixin implements ModelBakerHooks {
 		}
 
 		unbakedModel = fabric_eventDispatcher.modifyBlockModelBeforeBake(unbakedModel, id, baker);
-		BakedModel model = operation.call(unbakedModel, baker);
+		BakedModel model;
+
+		synchronized (fabric_bakedBlockModels) {
+			model = fabric_bakedBlockModels.get(unbakedModel);
+		}
+
+		if (model == null) {
+			model = operation.call(unbakedModel, baker);
+
+			synchronized (fabric_bakedBlockModels) {
+				fabric_bakedBlockModels.put(unbakedModel, model);
+			}
+		}
+
+		// After bake modifiers are still invoked for every block state model, as they may wrap models per id.
 		return fabric_eventDispatcher.modifyBlockModelAfterBake(model, id, unbakedModel, baker);
 	}
 
@@ -76,6 +98,10 @@ abstract class ModelBakerMixin implements ModelBakerHooks {
 			return;
 		}
 
+		synchronized (fabric_bakedBlockModels) {
+			fabric_bakedBlockModels.clear();
+		}
+
 		ModelBaker.BakedModels models = cir.getReturnValue();
 		Map<Identifier, BakedModel> extraModels = new HashMap<>();
 		fabric_eventDispatcher.forEachExtraModel(id -> {
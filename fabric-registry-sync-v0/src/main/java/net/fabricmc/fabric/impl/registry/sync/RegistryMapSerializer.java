@@ -33,8 +33,8 @@ public class RegistryMapSerializer {
 		Map<Identifier, Object2IntMap<Identifier>> map = new LinkedHashMap<>();
 
 		for (String registryId : mainNbt.getKeys()) {
-			Object2IntMap<Identifier> idMap = new Object2IntLinkedOpenHashMap<>();
 			NbtCompound idNbt = mainNbt.getCompound(registryId);
+			Object2IntMap<Identifier> idMap = new Object2IntLinkedOpenHashMap<>(idNbt.getSize());
 
 			for (String id : idNbt.getKeys()) {
 				idMap.put(Identifier.of(id), idNbt.getInt(id));
@@ -0,0 +1,279 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.api.renderer.v1.mesh;
+
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix3f;
+import org.joml.Matrix3x2f;
+import org.joml.Matrix3x2fc;
+import org.joml.Matrix4f;
+import org.joml.Matrix4fc;
+
+import net.minecraft.util.math.Direction;
+
+/**
+ * A {@link QuadTransform} made only of per-vertex operations that never discard quads: an affine transform of
+ * positions (also applied to vertex normals), an affine transform of texture coordinates, and a color multiplier.
+ *
+ * <p>Position transforms also update the {@linkplain MutableQuadView#cullFace cull face} and the
+ * {@linkplain MutableQuadView#nominalFace nominal face} of quads. If the matrix maps each axis onto an axis,
+ * like rotations by multiples of 90 degrees, mirroring and axis-aligned scaling do, faces are mapped to the direction
+ * they point to after the transform. Otherwise both faces are cleared. Translations are not taken into account,
+ * so they should keep quads that have a cull face on that face of the block.
+ *
+ * <p>Because their effect is known, renderers may fuse consecutive affine transforms pushed to a {@link QuadEmitter}
+ * into a single one, so that stacking rotations, UV remaps and tints costs a single pass over the quad.
+ * Any other {@link QuadTransform} is still applied on its own.
+ *
+ * <p>Instances are immutable and may be shared between threads. Building them involves matrix copies and
+ * fusing them allocates, so they should be created once and reused, like baked meshes.
+ */
+public final class AffineQuadTransform implements QuadTransform {
+	private static final Direction[] DIRECTIONS = Direction.values();
+	private static final int[] NO_COLORS = new int[0];
+	private static final float AXIS_EPSILON = 0.00001f;
+	public static final AffineQuadTransform IDENTITY = new AffineQuadTransform(null, null, null, NO_COLORS);
+
+	@Nullable
+	private final Matrix4f position;
+	@Nullable
+	private final Matrix3f normal;
+	/**
+	 * The face each face is mapped to, indexed by {@link Direction#ordinal()}, with {@code null} entries for faces that
+	 * are cleared. {@code null} if faces are left as-is.
+	 */
+	@Nullable
+	private final Direction[] faces;
+	@Nullable
+	private final Matrix3x2f uv;
+	/**
+	 * Colors to multiply vertex colors by, in order. They are not multiplied together when transforms are fused,
+	 * because rounding would give different results than multiplying vertex colors by each of them in turn.
+	 */
+	private final int[] colors;
+	/** The last result of {@link #andThen}, which is usually called repeatedly with the same argument. */
+	@Nullable
+	private volatile Fused lastFused;
+
+	private AffineQuadTransform(@Nullable Matrix4f position, @Nullable Direction[] faces, @Nullable Matrix3x2f uv, int[] colors) {
+		this.position = position;
+		this.normal = position == null ? null : position.normal(new Matrix3f());
+		this.faces = faces;
+		this.uv = uv;
+		this.colors = colors;
+	}
+
+	/**
+	 * Transforms vertex positions with the given matrix, and vertex normals with its normal matrix.
+	 * The matrix is copied.
+	 */
+	public static AffineQuadTransform position(Matrix4fc matrix) {
+		return new AffineQuadTransform(new Matrix4f(matrix), mapFaces(matrix), null, NO_COLORS);
+	}
+
+	/**
+	 * Transforms texture coordinates with the given matrix, which maps (u, v) to
+	 * (m00 * u + m10 * v + m20, m01 * u + m11 * v + m21). The matrix is copied.
+	 */
+	public static AffineQuadTransform uv(Matrix3x2fc matrix) {
+		return new AffineQuadTransform(null, null, new Matrix3x2f(matrix), NO_COLORS);
+	}
+
+	/**
+	 * Multiplies vertex colors by the given color, in ARGB format.
+	 */
+	public static AffineQuadTransform color(int color) {
+		return new AffineQuadTransform(null, null, null, color == -1 ? NO_COLORS : new int[] {color});
+	}
+
+	/**
+	 * @return a transform equivalent to applying this transform, then {@code after}. Vertex colors and faces are
+	 * the same as when applying both transforms in turn, positions, normals and texture coordinates are the same
+	 * up to floating point rounding.
+	 */
+	public AffineQuadTransform andThen(AffineQuadTransform after) {
+		if (after == IDENTITY) {
+			return this;
+		} else if (this == IDENTITY) {
+			return after;
+		}
+
+		final Fused fused = lastFused;
+
+		if (fused != null && fused.after == after) {
+			return fused.result;
+		}
+
+		final Matrix4f position = this.position == null ? after.position : after.position == null ? this.position : new Matrix4f(after.position).mul(this.position);
+		final Matrix3x2f uv = this.uv == null ? after.uv : after.uv == null ? this.uv : new Matrix3x2f(after.uv).mul(this.uv);
+		final AffineQuadTransform result = new AffineQuadTransform(position, composeFaces(faces, after.faces), uv, concatColors(colors, after.colors));
+		lastFused = new Fused(after, result);
+		return result;
+	}
+
+	@Override
+	public boolean transform(MutableQuadView quad) {
+		final Matrix4f position = this.position;
+		final Matrix3f normal = this.normal;
+		final Matrix3x2f uv = this.uv;
+		final int[] colors = this.colors;
+		final Direction[] faces = this.faces;
+
+		if (faces != null) {
+			final Direction cullFace = quad.cullFace();
+			final Direction nominalFace = quad.nominalFace();
+			// Setting the cull face also sets the nominal face
+			quad.cullFace(cullFace == null ? null : faces[cullFace.ordinal()]);
+			quad.nominalFace(nominalFace == null ? null : faces[nominalFace.ordinal()]);
+		}
+
+		for (int i = 0; i < 4; i++) {
+			if (position != null) {
+				final float x = quad.x(i);
+				final float y = quad.y(i);
+				final float z = quad.z(i);
+				quad.pos(i, position.m00() * x + position.m10() * y + position.m20() * z + position.m30(),
+						position.m01() * x + position.m11() * y + position.m21() * z + position.m31(),
+						position.m02() * x + position.m12() * y + position.m22() * z + position.m32());
+
+				if (quad.hasNormal(i)) {
+					final float nx = quad.normalX(i);
+					final float ny = quad.normalY(i);
+					final float nz = quad.normalZ(i);
+					final float tx = normal.m00() * nx + normal.m10() * ny + normal.m20() * nz;
+					final float ty = normal.m01() * nx + normal.m11() * ny + normal.m21() * nz;
+					final float tz = normal.m02() * nx + normal.m12() * ny + normal.m22() * nz;
+					final float scale = 1 / (float) Math.sqrt(tx * tx + ty * ty + tz * tz);
+					quad.normal(i, tx * scale, ty * scale, tz * scale);
+				}
+			}
+
+			if (uv != null) {
+				final float u = quad.u(i);
+				final float v = quad.v(i);
+				quad.uv(i, uv.m00() * u + uv.m10() * v + uv.m20(), uv.m01() * u + uv.m11() * v + uv.m21());
+			}
+
+			if (colors.length != 0) {
+				int vertexColor = quad.color(i);
+
+				for (int color : colors) {
+					vertexColor = multiplyColor(color, vertexColor);
+				}
+
+				quad.color(i, vertexColor);
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * @return the face each face is mapped to by the matrix, with {@code null} for every face if it doesn't map each axis
+	 * onto a different axis
+	 */
+	private static Direction[] mapFaces(Matrix4fc matrix) {
+		final Direction[] faces = new Direction[DIRECTIONS.length];
+		// Columns of the matrix are the images of the X, Y and Z axes
+		final Direction x = mapAxis(matrix.m00(), matrix.m01(), matrix.m02());
+		final Direction y = mapAxis(matrix.m10(), matrix.m11(), matrix.m12());
+		final Direction z = mapAxis(matrix.m20(), matrix.m21(), matrix.m22());
+
+		if (x == null || y == null || z == null || x.getAxis() == y.getAxis() || y.getAxis() == z.getAxis() || z.getAxis() == x.getAxis()) {
+			return faces;
+		}
+
+		for (Direction face : DIRECTIONS) {
+			final Direction mapped = switch (face.getAxis()) {
+			case X -> x;
+			case Y -> y;
+			case Z -> z;
+			};
+
+			faces[face.ordinal()] = face.getDirection() == Direction.AxisDirection.POSITIVE ? mapped : mapped.getOpposite();
+		}
+
+		return faces;
+	}
+
+	@Nullable
+	private static Direction mapAxis(float x, float y, float z) {
+		// Rotation matrices built from angles have tiny non-zero terms instead of zeros
+		final float epsilon = AXIS_EPSILON * Math.max(Math.abs(x), Math.max(Math.abs(y), Math.abs(z)));
+		final boolean hasX = Math.abs(x) > epsilon;
+		final boolean hasY = Math.abs(y) > epsilon;
+		final boolean hasZ = Math.abs(z) > epsilon;
+
+		if (hasX && !hasY && !hasZ) {
+			return x > 0 ? Direction.EAST : Direction.WEST;
+		} else if (!hasX && hasY && !hasZ) {
+			return y > 0 ? Direction.UP : Direction.DOWN;
+		} else if (!hasX && !hasY && hasZ) {
+			return z > 0 ? Direction.SOUTH : Direction.NORTH;
+		} else {
+			return null;
+		}
+	}
+
+	@Nullable
+	private static Direction[] composeFaces(@Nullable Direction[] first, @Nullable Direction[] second) {
+		if (first == null) {
+			return second;
+		} else if (second == null) {
+			return first;
+		}
+
+		final Direction[] faces = new Direction[DIRECTIONS.length];
+
+		for (int i = 0; i < faces.length; i++) {
+			faces[i] = first[i] == null ? null : second[first[i].ordinal()];
+		}
+
+		return faces;
+	}
+
+	private static int[] concatColors(int[] first, int[] second) {
+		if (first.length == 0) {
+			return second;
+		} else if (second.length == 0) {
+			return first;
+		}
+
+		final int[] colors = new int[first.length + second.length];
+		System.arraycopy(first, 0, colors, 0, first.length);
+		System.arraycopy(second, 0, colors, first.length, second.length);
+		return colors;
+	}
+
+	private static int multiplyColor(int color1, int color2) {
+		if (color1 == -1) {
+			return color2;
+		} else if (color2 == -1) {
+			return color1;
+		}
+
+		final int alpha = ((color1 >>> 24) * (color2 >>> 24)) / 0xFF;
+		final int red = (((color1 >> 16) & 0xFF) * ((color2 >> 16) & 0xFF)) / 0xFF;
+		final int green = (((color1 >> 8) & 0xFF) * ((color2 >> 8) & 0xFF)) / 0xFF;
+		final int blue = ((color1 & 0xFF) * (color2 & 0xFF)) / 0xFF;
+
+		return (alpha << 24) | (red << 16) | (green << 8) | blue;
+	}
+
+	private record Fused(AffineQuadTransform after, AffineQuadTransform result) {
+	}
+}
@@ -212,6 +212,8 @@ public interface QuadEmitter extends MutableQuadView {
 	 * first.)
 	 *
 	 * <p>Using {@code this} emitter from inside the pushed quad transform is not supported.
+	 *
+	 * <p>Renderers may fuse consecutive {@link AffineQuadTransform}s into a single transform.
 	 */
 	void pushTransform(QuadTransform transform);
 
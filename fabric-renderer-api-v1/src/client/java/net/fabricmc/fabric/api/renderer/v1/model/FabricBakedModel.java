@@ -134,4 +134,16 @@ public interface FabricBakedModel {
 	default void emitItemQuads(QuadEmitter emitter, Supplier<Random> randomSupplier) {
 		VanillaModelEncoder.emitItemQuads(emitter, (BakedModel) this, null, randomSupplier);
 	}
+
+	/**
+	 * Whether {@link #emitItemQuads} may output different quads across calls on the same model, for example
+	 * because they are animated or depend on global state. Renderers may reuse the output of models for which
+	 * this returns false, such as when drawing the same item in many inventory slots.
+	 *
+	 * <p>Models that depend on extra context should prefer capturing it in a new model instance, as described
+	 * in {@link #emitItemQuads}, over returning true here.
+	 */
+	default boolean hasDynamicItemQuads() {
+		return false;
+	}
 }
@@ -0,0 +1,185 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.renderer;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.client.texture.Sprite;
+
+/**
+ * Direct index of the sprites of an atlas, used by {@link SpriteFinderImpl} when the atlas allows it.
+ *
+ * <p>The atlas is divided into cells as large as possible while keeping every sprite edge on a cell edge,
+ * so that each cell belongs to at most one sprite. The cell size is the greatest common divisor of the
+ * sprite positions and sizes, which is usually the size of the smallest sprite.
+ *
+ * <p>Cells are grouped in square pages of {@value #PAGE_SIZE} by {@value #PAGE_SIZE} cells. Pages covered
+ * by a single sprite, or by none, are stored as a single value, which keeps big atlases with big sprites compact.
+ */
+final class SpriteFinderGrid {
+	/**
+	 * Above this number of cells, the quad tree is used instead. Pages that are not uniform take 4 bytes per cell,
+	 * so this keeps the grid within a few megabytes. This is a 16384x16384 atlas of 16x16 sprites.
+	 */
+	private static final long MAX_CELLS = 1L << 20;
+	/**
+	 * Below this cell width or height, the quad tree is used instead, as a few tiny sprites would make
+	 * the cells of the whole atlas tiny.
+	 */
+	private static final int MIN_CELL_SIZE = 4;
+	private static final int PAGE_BITS = 4;
+	private static final int PAGE_SIZE = 1 << PAGE_BITS;
+	private static final int PAGE_MASK = PAGE_SIZE - 1;
+	private static final int[] EMPTY_PAGE = new int[] {0};
+
+	/** Index 0 is reserved for cells that don't belong to any sprite. */
+	private final Sprite[] sprites;
+	private final int[][] pages;
+	private final int cellsU;
+	private final int cellsV;
+	private final int pagesU;
+	private final float uScale;
+	private final float vScale;
+
+	private SpriteFinderGrid(Sprite[] sprites, int cellsU, int cellsV, float uScale, float vScale) {
+		this.sprites = sprites;
+		this.cellsU = cellsU;
+		this.cellsV = cellsV;
+		this.uScale = uScale;
+		this.vScale = vScale;
+		pagesU = (cellsU + PAGE_MASK) >> PAGE_BITS;
+		pages = new int[pagesU * ((cellsV + PAGE_MASK) >> PAGE_BITS)][];
+		Arrays.fill(pages, EMPTY_PAGE);
+	}
+
+	/**
+	 * @param sprites sprites of the atlas, with valid bounds
+	 * @return the grid, or {@code null} if the atlas would need too many or too small cells
+	 */
+	@Nullable
+	static SpriteFinderGrid create(List<Sprite> sprites) {
+		if (sprites.isEmpty()) {
+			return null;
+		}
+
+		final Sprite first = sprites.get(0);
+		final int atlasWidth = Math.round(first.getContents().getWidth() / (first.getMaxU() - first.getMinU()));
+		final int atlasHeight = Math.round(first.getContents().getHeight() / (first.getMaxV() - first.getMinV()));
+		int cellWidth = 0;
+		int cellHeight = 0;
+
+		for (Sprite sprite : sprites) {
+			cellWidth = gcd(gcd(cellWidth, sprite.getX()), sprite.getContents().getWidth());
+			cellHeight = gcd(gcd(cellHeight, sprite.getY()), sprite.getContents().getHeight());
+		}
+
+		if (cellWidth < MIN_CELL_SIZE || cellHeight < MIN_CELL_SIZE || atlasWidth <= 0 || atlasHeight <= 0) {
+			return null;
+		}
+
+		final int cellsU = (atlasWidth + cellWidth - 1) / cellWidth;
+		final int cellsV = (atlasHeight + cellHeight - 1) / cellHeight;
+
+		if ((long) cellsU * cellsV > MAX_CELLS) {
+			return null;
+		}
+
+		final Sprite[] indexed = new Sprite[sprites.size() + 1];
+		final SpriteFinderGrid grid = new SpriteFinderGrid(indexed, cellsU, cellsV, (float) atlasWidth / cellWidth, (float) atlasHeight / cellHeight);
+
+		for (int i = 0; i < sprites.size(); i++) {
+			final Sprite sprite = sprites.get(i);
+			final int minU = sprite.getX() / cellWidth;
+			final int minV = sprite.getY() / cellHeight;
+			final int maxU = Math.min(cellsU, minU + sprite.getContents().getWidth() / cellWidth);
+			final int maxV = Math.min(cellsV, minV + sprite.getContents().getHeight() / cellHeight);
+			indexed[i + 1] = sprite;
+			grid.fill(i + 1, minU, minV, maxU, maxV);
+		}
+
+		return grid;
+	}
+
+	private static int gcd(int a, int b) {
+		while (b != 0) {
+			int t = a % b;
+			a = b;
+			b = t;
+		}
+
+		return a;
+	}
+
+	/**
+	 * Assigns the cells from (minU, minV) inclusive to (maxU, maxV) exclusive to the sprite.
+	 */
+	private void fill(int spriteIndex, int minU, int minV, int maxU, int maxV) {
+		int[] uniformPage = null;
+
+		for (int pageV = minV >> PAGE_BITS; pageV <= (maxV - 1) >> PAGE_BITS; pageV++) {
+			for (int pageU = minU >> PAGE_BITS; pageU <= (maxU - 1) >> PAGE_BITS; pageU++) {
+				final int pageIndex = pageV * pagesU + pageU;
+				final int fromU = Math.max(minU, pageU << PAGE_BITS) & PAGE_MASK;
+				final int fromV = Math.max(minV, pageV << PAGE_BITS) & PAGE_MASK;
+				final int toU = Math.min(maxU, (pageU + 1) << PAGE_BITS) - (pageU << PAGE_BITS);
+				final int toV = Math.min(maxV, (pageV + 1) << PAGE_BITS) - (pageV << PAGE_BITS);
+
+				if (fromU == 0 && fromV == 0 && toU == PAGE_SIZE && toV == PAGE_SIZE) {
+					if (uniformPage == null) {
+						uniformPage = new int[] {spriteIndex};
+					}
+
+					pages[pageIndex] = uniformPage;
+					continue;
+				}
+
+				int[] page = pages[pageIndex];
+
+				if (page.length == 1) {
+					final int previous = page[0];
+					page = new int[PAGE_SIZE * PAGE_SIZE];
+					Arrays.fill(page, previous);
+					pages[pageIndex] = page;
+				}
+
+				for (int v = fromV; v < toV; v++) {
+					Arrays.fill(page, v << PAGE_BITS | fromU, v << PAGE_BITS | toU, spriteIndex);
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the sprite at the given atlas coordinates, or {@code null} if there is none
+	 */
+	@Nullable
+	Sprite find(float u, float v) {
+		if (u < 0 || v < 0 || u > 1 || v > 1) {
+			return null;
+		}
+
+		// The far edges of the atlas belong to the last cells, like they belong to the last sprites in the quad tree
+		final int cellU = Math.min((int) (u * uScale), cellsU - 1);
+		final int cellV = Math.min((int) (v * vScale), cellsV - 1);
+
+		final int[] page = pages[(cellV >> PAGE_BITS) * pagesU + (cellU >> PAGE_BITS)];
+		return sprites[page.length == 1 ? page[0] : page[(cellV & PAGE_MASK) << PAGE_BITS | (cellU & PAGE_MASK)]];
+	}
+}
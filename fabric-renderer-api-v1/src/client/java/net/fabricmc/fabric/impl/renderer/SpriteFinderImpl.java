@@ -16,9 +16,12 @@
 
 package net.fabricmc.fabric.impl.renderer;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -32,24 +35,62 @@ import net.fabricmc.fabric.api.renderer.v1.model.SpriteFinder;
 
 /**
  * Indexes an atlas sprite to allow fast lookup of Sprites from
- * baked vertex coordinates.  Implementation is a straightforward
- * quad tree. Other options that were considered were linear search
- * (slow) and direct indexing of fixed-size cells. Direct indexing
- * would be fastest but would be memory-intensive for large atlases
- * and unsuitable for any atlas that isn't consistently aligned to
- * a fixed cell size.
+ * baked vertex coordinates. Atlases are indexed with a paged grid
+ * of cells sized to fit the sprites, see {@link SpriteFinderGrid}.
+ * Atlases that would need too many cells fall back to a straightforward
+ * quad tree. The quad tree can also be forced with the
+ * {@code fabric.renderer.quadTreeSpriteFinder} system property.
  */
 public class SpriteFinderImpl implements SpriteFinder {
 	private static final Logger LOGGER = LoggerFactory.getLogger(SpriteFinderImpl.class);
+	private static final boolean USE_QUAD_TREE = Boolean.getBoolean("fabric.renderer.quadTreeSpriteFinder");
 
+	@Nullable
+	private final SpriteFinderGrid grid;
+	@Nullable
 	private final Node root;
 	private final SpriteAtlasTexture spriteAtlasTexture;
 	private int badSpriteCount = 0;
 
 	public SpriteFinderImpl(Map<Identifier, Sprite> sprites, SpriteAtlasTexture spriteAtlasTexture) {
-		root = new Node(0.5f, 0.5f, 0.25f);
+		this(sprites, spriteAtlasTexture, !USE_QUAD_TREE);
+	}
+
+	public SpriteFinderImpl(Map<Identifier, Sprite> sprites, SpriteAtlasTexture spriteAtlasTexture, boolean useGrid) {
 		this.spriteAtlasTexture = spriteAtlasTexture;
-		sprites.values().forEach(root::add);
+		List<Sprite> validSprites = new ArrayList<>(sprites.size());
+
+		for (Sprite sprite : sprites.values()) {
+			if (hasValidBounds(sprite)) {
+				validSprites.add(sprite);
+			}
+		}
+
+		grid = useGrid ? SpriteFinderGrid.create(validSprites) : null;
+
+		if (grid == null) {
+			root = new Node(0.5f, 0.5f, 0.25f);
+			validSprites.forEach(root::add);
+		} else {
+			root = null;
+		}
+	}
+
+	private static final float EPS = 0.00001f;
+
+	private boolean hasValidBounds(Sprite sprite) {
+		if (sprite.getMinU() < 0 - EPS || sprite.getMaxU() > 1 + EPS || sprite.getMinV() < 0 - EPS || sprite.getMaxV() > 1 + EPS) {
+			// Sprite has broken bounds. This SHOULD NOT happen, but in the past some mods have broken this.
+			// Prefer failing with a log warning rather than risking a stack overflow.
+			if (badSpriteCount++ < 5) {
+				String errorMessage = "SpriteFinderImpl: Skipping sprite {} with broken bounds [{}, {}]x[{}, {}]. Sprite bounds should be between 0 and 1.";
+				LOGGER.error(errorMessage, sprite.getContents().getId(), sprite.getMinU(), sprite.getMaxU(), sprite.getMinV(), sprite.getMaxV());
+			}
+
+			return false;
+		}
+
+		return true;
 	}
 
 	@Override
@@ -67,6 +108,11 @@ public class SpriteFinderImpl implements SpriteFinder {
 
 	@Override
 	public Sprite find(float u, float v) {
+		if (grid != null) {
+			Sprite sprite = grid.find(u, v);
+			return sprite != null ? sprite : spriteAtlasTexture.getSprite(MissingSprite.getMissingSpriteId());
+		}
+
 		return root.find(u, v);
 	}
 
@@ -85,20 +131,7 @@ public class SpriteFinderImpl implements SpriteFinder {
 			cellRadius = radius;
 		}
 
-		static final float EPS = 0.00001f;
-
 		void add(Sprite sprite) {
-			if (sprite.getMinU() < 0 - EPS || sprite.getMaxU() > 1 + EPS || sprite.getMinV() < 0 - EPS || sprite.getMaxV() > 1 + EPS) {
-				// Sprite has broken bounds. This SHOULD NOT happen, but in the past some mods have broken this.
-				// Prefer failing with a log warning rather than risking a stack overflow.
-				if (badSpriteCount++ < 5) {
-					String errorMessage = "SpriteFinderImpl: Skipping sprite {} with broken bounds [{}, {}]x[{}, {}]. Sprite bounds should be between 0 and 1.";
-					LOGGER.error(errorMessage, sprite.getContents().getId(), sprite.getMinU(), sprite.getMaxU(), sprite.getMinV(), sprite.getMaxV());
-				}
-
-				return;
-			}
-
 			final boolean lowU = sprite.getMinU() < midU - EPS;
 			final boolean highU = sprite.getMaxU() > midU + EPS;
 			final boolean lowV = sprite.getMinV() < midV - EPS;
@@ -50,12 +50,18 @@ abstract class WeightedBakedModelMixin implements FabricBakedModel {
 	@Unique
 	private boolean isVanilla = true;
 
+	@Unique
+	private boolean hasDynamicItemQuads = false;
+
 	@Inject(at = @At("RETURN"), method = "<init>")
 	private void onInit(DataPool<BakedModel> dataPool, CallbackInfo ci) {
 		for (Weighted.Present<BakedModel> model : models.getEntries()) {
 			if (!model.data().isVanillaAdapter()) {
 				isVanilla = false;
-				break;
+			}
+
+			if (model.data().hasDynamicItemQuads()) {
+				hasDynamicItemQuads = true;
 			}
 		}
 	}
@@ -65,6 +71,11 @@ abstract class WeightedBakedModelMixin implements FabricBakedModel {
 		return isVanilla;
 	}
 
+	@Override
+	public boolean hasDynamicItemQuads() {
+		return hasDynamicItemQuads;
+	}
+
 	@Override
 	public void emitBlockQuads(QuadEmitter emitter, BlockRenderView blockView, BlockState state, BlockPos pos, Supplier<Random> randomSupplier, Predicate<@Nullable Direction> cullTest) {
 		BakedModel selected = this.models.getDataOrEmpty(randomSupplier.get()).orElse(null);
@@ -54,4 +54,9 @@ abstract class WrapperBakedModelMixin implements BakedModel {
 	public void emitItemQuads(QuadEmitter emitter, Supplier<Random> randomSupplier) {
 		wrapped.emitItemQuads(emitter, randomSupplier);
 	}
+
+	@Override
+	public boolean hasDynamicItemQuads() {
+		return wrapped.hasDynamicItemQuads();
+	}
 }
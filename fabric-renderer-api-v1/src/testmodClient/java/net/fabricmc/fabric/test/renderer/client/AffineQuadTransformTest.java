@@ -0,0 +1,173 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.test.renderer.client;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix3x2f;
+import org.joml.Matrix4f;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.util.math.Direction;
+
+import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
+import net.fabricmc.fabric.api.renderer.v1.Renderer;
+import net.fabricmc.fabric.api.renderer.v1.mesh.AffineQuadTransform;
+import net.fabricmc.fabric.api.renderer.v1.mesh.MutableMesh;
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+
+/**
+ * Tests that the renderer gives the same results when it fuses stacked {@link AffineQuadTransform}s as when they are
+ * applied one after the other, and that position transforms update cull faces.
+ */
+public class AffineQuadTransformTest implements ClientModInitializer {
+	private static final Logger LOGGER = LoggerFactory.getLogger(AffineQuadTransformTest.class);
+	private static final float EPSILON = 0.0001f;
+
+	@Override
+	public void onInitializeClient() {
+		// Wait for the renderer to be registered
+		ClientLifecycleEvents.CLIENT_STARTED.register(client -> {
+			testFusedTransforms();
+			testCullFaces();
+			LOGGER.info("The affine quad transform tests passed!");
+		});
+	}
+
+	private static void testFusedTransforms() {
+		assertFusedMatchesUnfused("axis-aligned transforms", List.of(
+				AffineQuadTransform.color(0xFF80C040),
+				AffineQuadTransform.uv(new Matrix3x2f().translate(0.25f, 0.5f).scale(0.5f)),
+				AffineQuadTransform.position(rotateY(90)),
+				AffineQuadTransform.color(0x80A0FF33),
+				AffineQuadTransform.position(new Matrix4f().scale(1, 0.5f, -1))
+		));
+
+		// Cull faces cleared by the first rotation must stay cleared, even though the fused rotation is axis-aligned
+		assertFusedMatchesUnfused("rotations cancelling each other", List.of(
+				AffineQuadTransform.position(rotateY(45)),
+				AffineQuadTransform.color(0xFF123456),
+				AffineQuadTransform.position(rotateY(-45))
+		));
+	}
+
+	private static void testCullFaces() {
+		assertCullFace(AffineQuadTransform.position(rotateY(90)), Direction.NORTH, Direction.WEST);
+		assertCullFace(AffineQuadTransform.position(rotateY(90)), Direction.UP, Direction.UP);
+		assertCullFace(AffineQuadTransform.position(new Matrix4f().translate(0, 1, 0).scale(1, -1, 1)), Direction.UP, Direction.DOWN);
+		assertCullFace(AffineQuadTransform.position(rotateY(45)), Direction.NORTH, null);
+	}
+
+	private static Matrix4f rotateY(float degrees) {
+		return new Matrix4f().translate(0.5f, 0.5f, 0.5f).rotateY((float) Math.toRadians(degrees)).translate(-0.5f, -0.5f, -0.5f);
+	}
+
+	private static void assertFusedMatchesUnfused(String name, List<AffineQuadTransform> transforms) {
+		List<QuadData> fused = emitQuads(transforms, true);
+		List<QuadData> unfused = emitQuads(transforms, false);
+
+		for (int i = 0; i < fused.size(); i++) {
+			QuadData expected = unfused.get(i);
+			QuadData actual = fused.get(i);
+
+			if (expected.cullFace != actual.cullFace) {
+				throw new AssertionError("Fused %s gave cull face %s instead of %s".formatted(name, actual.cullFace, expected.cullFace));
+			}
+
+			for (int j = 0; j < expected.values.length; j++) {
+				if (Math.abs(expected.values[j] - actual.values[j]) > EPSILON) {
+					throw new AssertionError("Fused %s gave %s instead of %s for value %d of quad %d".formatted(name, actual.values[j], expected.values[j], j, i));
+				}
+			}
+
+			for (int j = 0; j < 4; j++) {
+				if (expected.colors[j] != actual.colors[j]) {
+					throw new AssertionError("Fused %s gave color %08X instead of %08X for vertex %d of quad %d".formatted(name, actual.colors[j], expected.colors[j], j, i));
+				}
+			}
+		}
+	}
+
+	private static void assertCullFace(AffineQuadTransform transform, Direction face, @Nullable Direction expected) {
+		Direction actual = emitQuads(List.of(transform), true).get(face.ordinal()).cullFace;
+
+		if (actual != expected) {
+			throw new AssertionError("Expected cull face %s to become %s, got %s".formatted(face, expected, actual));
+		}
+	}
+
+	/**
+	 * Emits a quad on each face of the block through the transforms. Pushing transforms wrapped in lambdas prevents
+	 * the renderer from fusing them.
+	 */
+	private static List<QuadData> emitQuads(List<AffineQuadTransform> transforms, boolean fuse) {
+		MutableMesh mesh = Renderer.get().mutableMesh();
+		QuadEmitter emitter = mesh.emitter();
+
+		// The last pushed transform is applied first
+		for (int i = transforms.size() - 1; i >= 0; i--) {
+			AffineQuadTransform transform = transforms.get(i);
+			emitter.pushTransform(fuse ? transform : transform::transform);
+		}
+
+		for (Direction face : Direction.values()) {
+			emitter.square(face, 0.1f, 0.2f, 0.8f, 0.9f, 0);
+			emitter.color(0xFFFFFFFF, 0xFF7F7F7F, 0xC0FF0000, 0x40123456);
+
+			for (int i = 0; i < 4; i++) {
+				emitter.uv(i, i * 0.25f, 1 - i * 0.125f);
+				emitter.normal(i, face.getOffsetX(), face.getOffsetY(), face.getOffsetZ());
+			}
+
+			emitter.emit();
+		}
+
+		for (int i = 0; i < transforms.size(); i++) {
+			emitter.popTransform();
+		}
+
+		List<QuadData> quads = new ArrayList<>();
+
+		mesh.forEach(quad -> {
+			float[] values = new float[4 * 8];
+			int[] colors = new int[4];
+
+			for (int i = 0; i < 4; i++) {
+				values[i * 8] = quad.x(i);
+				values[i * 8 + 1] = quad.y(i);
+				values[i * 8 + 2] = quad.z(i);
+				values[i * 8 + 3] = quad.u(i);
+				values[i * 8 + 4] = quad.v(i);
+				values[i * 8 + 5] = quad.normalX(i);
+				values[i * 8 + 6] = quad.normalY(i);
+				values[i * 8 + 7] = quad.normalZ(i);
+				colors[i] = quad.color(i);
+			}
+
+			quads.add(new QuadData(values, colors, quad.cullFace()));
+		});
+
+		return quads;
+	}
+
+	private record QuadData(float[] values, int[] colors, @Nullable Direction cullFace) {
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.test.renderer.client;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import net.minecraft.client.texture.MissingSprite;
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.client.texture.SpriteAtlasTexture;
+import net.minecraft.client.texture.SpriteContents;
+import net.minecraft.client.texture.SpriteDimensions;
+import net.minecraft.resource.metadata.ResourceMetadata;
+import net.minecraft.util.Identifier;
+
+import net.fabricmc.api.ClientModInitializer;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientLifecycleEvents;
+import net.fabricmc.fabric.impl.renderer.SpriteFinderImpl;
+
+/**
+ * Tests that the grid and the quad tree used by the sprite finder find the same sprites on a synthetic atlas.
+ */
+public class SpriteFinderTest implements ClientModInitializer {
+	private static final Logger LOGGER = LoggerFactory.getLogger(SpriteFinderTest.class);
+	private static final Identifier ATLAS_ID = Identifier.of("fabric-renderer-api-v1-testmod", "sprite_finder_test");
+	private static final int ATLAS_WIDTH = 128;
+	private static final int ATLAS_HEIGHT = 64;
+
+	@Override
+	public void onInitializeClient() {
+		// The real block atlas is only used to look up the missing sprite, so wait until it is loaded
+		ClientLifecycleEvents.CLIENT_STARTED.register(client -> {
+			SpriteAtlasTexture blockAtlas = client.getBakedModelManager().getAtlas(SpriteAtlasTexture.BLOCK_ATLAS_TEXTURE);
+			testSpriteFinders(blockAtlas, blockAtlas.getSprite(MissingSprite.getMissingSpriteId()));
+			LOGGER.info("The sprite finder tests passed!");
+		});
+	}
+
+	private static void testSpriteFinders(SpriteAtlasTexture atlas, Sprite missingSprite) {
+		Map<Identifier, Sprite> sprites = new LinkedHashMap<>();
+		Sprite a = addSprite(sprites, "a", 0, 0, 32, 32);
+		addSprite(sprites, "b", 32, 0, 16, 16);
+		addSprite(sprites, "c", 48, 0, 16, 16);
+		addSprite(sprites, "d", 32, 16, 16, 16);
+		Sprite e = addSprite(sprites, "e", 64, 0, 64, 32);
+		Sprite f = addSprite(sprites, "f", 0, 32, 16, 32);
+		Sprite g = addSprite(sprites, "g", 96, 48, 32, 16);
+
+		SpriteFinderImpl grid = new SpriteFinderImpl(sprites, atlas, true);
+		SpriteFinderImpl quadTree = new SpriteFinderImpl(sprites, atlas, false);
+
+		for (Sprite sprite : sprites.values()) {
+			float minX = sprite.getX();
+			float minY = sprite.getY();
+			float maxX = minX + sprite.getContents().getWidth();
+			float maxY = minY + sprite.getContents().getHeight();
+
+			// Near edges and corners are inside the sprite, far edges belong to the next one
+			for (float x : new float[] {minX, minX + 0.5f, (minX + maxX) / 2, maxX - 0.5f}) {
+				for (float y : new float[] {minY, minY + 0.5f, (minY + maxY) / 2, maxY - 0.5f}) {
+					assertFound(sprite, grid, quadTree, x / ATLAS_WIDTH, y / ATLAS_HEIGHT);
+				}
+			}
+		}
+
+		// Corners of the atlas
+		assertFound(a, grid, quadTree, 0, 0);
+		assertFound(e, grid, quadTree, 1, 0);
+		assertFound(f, grid, quadTree, 0, 1);
+		assertFound(g, grid, quadTree, 1, 1);
+
+		// The quad tree may return a nearby sprite for empty parts of the atlas, the grid must not
+		for (float[] uv : new float[][] {{56f / ATLAS_WIDTH, 24f / ATLAS_HEIGHT}, {16f / ATLAS_WIDTH, 32f / ATLAS_HEIGHT}, {95.5f / ATLAS_WIDTH, 63.5f / ATLAS_HEIGHT}, {100f / ATLAS_WIDTH, 40f / ATLAS_HEIGHT}}) {
+			if (grid.find(uv[0], uv[1]) != missingSprite) {
+				throw new AssertionError("Expected the missing sprite at (%s, %s), got %s".formatted(uv[0], uv[1], grid.find(uv[0], uv[1]).getContents().getId()));
+			}
+		}
+	}
+
+	private static Sprite addSprite(Map<Identifier, Sprite> sprites, String name, int x, int y, int width, int height) {
+		Identifier id = Identifier.of("fabric-renderer-api-v1-testmod", name);
+		SpriteContents contents = new SpriteContents(id, new SpriteDimensions(width, height), null, ResourceMetadata.NONE);
+		Sprite sprite = new Sprite(ATLAS_ID, contents, ATLAS_WIDTH, ATLAS_HEIGHT, x, y) { };
+		sprites.put(id, sprite);
+		return sprite;
+	}
+
+	private static void assertFound(Sprite expected, SpriteFinderImpl grid, SpriteFinderImpl quadTree, float u, float v) {
+		Sprite fromGrid = grid.find(u, v);
+		Sprite fromQuadTree = quadTree.find(u, v);
+
+		if (fromGrid != expected || fromQuadTree != expected) {
+			throw new AssertionError("Expected sprite %s at (%s, %s), the grid found %s and the quad tree found %s".formatted(
+					expected.getContents().getId(), u, v, fromGrid.getContents().getId(), fromQuadTree.getContents().getId()));
+		}
+	}
+}
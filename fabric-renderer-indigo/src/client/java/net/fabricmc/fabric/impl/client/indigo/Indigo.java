@@ -31,6 +31,7 @@ import net.fabricmc.fabric.api.renderer.v1.Renderer;
 import net.fabricmc.fabric.api.util.TriState;
 import net.fabricmc.fabric.impl.client.indigo.renderer.IndigoRenderer;
 import net.fabricmc.fabric.impl.client.indigo.renderer.aocalc.AoConfig;
+import net.fabricmc.fabric.impl.client.indigo.renderer.aocalc.LightCacheConfig;
 import net.fabricmc.loader.api.FabricLoader;
 
 public class Indigo implements ClientModInitializer {
@@ -47,6 +48,10 @@ public class Indigo implements ClientModInitializer {
 	public static final boolean FIX_EMISSIVE_LIGHTING;
 	public static final boolean FIX_EXTERIOR_VERTEX_LIGHTING;
 	public static final boolean FIX_LUMINOUS_AO_SHADE;
+	public static final LightCacheConfig TERRAIN_LIGHT_CACHE;
+	public static final boolean CACHE_BLOCK_OUTPUT;
+	public static final boolean CACHE_GUI_ITEMS;
+	public static final boolean PROFILE_MODELS;
 
 	public static final Logger LOGGER = LoggerFactory.getLogger(Indigo.class);
 
@@ -121,6 +126,10 @@ public class Indigo implements ClientModInitializer {
 		FIX_EMISSIVE_LIGHTING = FIX_MEAN_LIGHT_CALCULATION;
 		FIX_EXTERIOR_VERTEX_LIGHTING = asBoolean((String) properties.computeIfAbsent("fix-exterior-vertex-lighting", (a) -> "auto"), true);
 		FIX_LUMINOUS_AO_SHADE = asBoolean((String) properties.computeIfAbsent("fix-luminous-block-ambient-occlusion", (a) -> "auto"), false);
+		TERRAIN_LIGHT_CACHE = asEnum((String) properties.computeIfAbsent("terrain-light-cache", (a) -> "grid"), LightCacheConfig.GRID);
+		CACHE_BLOCK_OUTPUT = asBoolean((String) properties.computeIfAbsent("cache-block-output", (a) -> "auto"), false);
+		CACHE_GUI_ITEMS = asBoolean((String) properties.computeIfAbsent("cache-gui-items", (a) -> "auto"), false);
+		PROFILE_MODELS = asBoolean((String) properties.computeIfAbsent("profile-models", (a) -> "auto"), false);
 
 		try (FileOutputStream stream = new FileOutputStream(configFile)) {
 			properties.store(stream, "Indigo properties file");
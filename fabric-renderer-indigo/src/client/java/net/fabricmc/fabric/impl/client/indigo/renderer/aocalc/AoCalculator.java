@@ -489,7 +489,7 @@ public abstract class AoCalculator {
 		}
 
 		float aoCenter = ao(lightPos, world.getBlockState(lightPos));
-		float worldBrightness = world.getBrightness(lightFace, shade);
+		float worldBrightness = blockInfo.faceShade(lightFace, shade);
 
 		result.a0 = ((ao3 + ao0 + cAo1 + aoCenter) * 0.25F) * worldBrightness;
 		result.a1 = ((ao2 + ao0 + cAo0 + aoCenter) * 0.25F) * worldBrightness;
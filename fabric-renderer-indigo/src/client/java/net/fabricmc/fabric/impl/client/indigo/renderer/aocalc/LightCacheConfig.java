@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.client.indigo.renderer.aocalc;
+
+/**
+ * Defines how brightness and AO levels are cached during terrain rendering.
+ * All modes give the same results, they only differ in performance.
+ */
+public enum LightCacheConfig {
+	/**
+	 * Values are cached in hash maps keyed by block position, and computed when first needed.
+	 */
+	HASH,
+
+	/**
+	 * Values are cached in flat arrays covering the chunk section and the blocks around it, and computed
+	 * when first needed. Positions outside of the section fall back to the hash maps.
+	 */
+	GRID,
+
+	/**
+	 * Same as {@link #GRID}, but all the values covered by the arrays are computed in one pass before
+	 * the section is rendered. Faster for busy sections, slower for sections with few visible faces.
+	 */
+	PREFETCH;
+}
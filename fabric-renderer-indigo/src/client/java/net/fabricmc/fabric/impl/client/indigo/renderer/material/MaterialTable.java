@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.client.indigo.renderer.material;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import net.minecraft.client.render.RenderLayer;
+
+import net.fabricmc.fabric.api.renderer.v1.material.BlendMode;
+import net.fabricmc.fabric.api.renderer.v1.material.ShadeMode;
+import net.fabricmc.fabric.api.util.TriState;
+
+/**
+ * Properties of every material, resolved ahead of time for block rendering, indexed by {@link RenderMaterialImpl#index()}.
+ * Replaces decoding the material bits and branching on the decoded values for every quad.
+ *
+ * <p>The tables are immutable once built, and shared by all render threads.
+ */
+public final class MaterialTable {
+	/** The material has {@link TriState#TRUE} ambient occlusion. */
+	public static final int AO_ENABLED = 1;
+	/** The material has {@link TriState#DEFAULT} ambient occlusion. */
+	public static final int AO_DEFAULT = 1 << 1;
+	public static final int EMISSIVE = 1 << 2;
+	public static final int VANILLA_SHADE = 1 << 3;
+
+	private static final int[] FLAGS = new int[RenderMaterialImpl.VALUE_COUNT];
+	private static final List<RenderLayer> BLOCK_LAYERS = RenderLayer.getBlockLayers();
+	private static final RenderLayer[][] BLOCK_LAYER_TABLES = new RenderLayer[BLOCK_LAYERS.size()][];
+	private static final Map<RenderLayer, RenderLayer[]> OTHER_LAYER_TABLES = new ConcurrentHashMap<>();
+
+	static {
+		for (int i = 0; i < RenderMaterialImpl.VALUE_COUNT; i++) {
+			RenderMaterialImpl material = RenderMaterialImpl.byIndex(i);
+
+			if (material == null) {
+				continue;
+			}
+
+			int flags = 0;
+
+			if (material.ambientOcclusion() == TriState.TRUE) {
+				flags |= AO_ENABLED;
+			} else if (material.ambientOcclusion() == TriState.DEFAULT) {
+				flags |= AO_DEFAULT;
+			}
+
+			if (material.emissive()) {
+				flags |= EMISSIVE;
+			}
+
+			if (material.shadeMode() == ShadeMode.VANILLA) {
+				flags |= VANILLA_SHADE;
+			}
+
+			FLAGS[i] = flags;
+		}
+
+		for (int i = 0; i < BLOCK_LAYERS.size(); i++) {
+			BLOCK_LAYER_TABLES[i] = createLayerTable(BLOCK_LAYERS.get(i));
+		}
+	}
+
+	private MaterialTable() {
+	}
+
+	/**
+	 * @return the {@link #AO_ENABLED}, {@link #AO_DEFAULT}, {@link #EMISSIVE} and {@link #VANILLA_SHADE} flags of the material
+	 */
+	public static int flags(int materialIndex) {
+		return FLAGS[materialIndex];
+	}
+
+	/**
+	 * @return the flags a material must have to use ambient occlusion when rendering a block with the given properties
+	 */
+	public static int aoFlags(boolean useAo, boolean defaultAo) {
+		if (!useAo) {
+			return 0;
+		}
+
+		return defaultAo ? AO_ENABLED | AO_DEFAULT : AO_ENABLED;
+	}
+
+	/**
+	 * @return the render layer of each material index, for a block with the given default layer
+	 */
+	public static RenderLayer[] layers(RenderLayer defaultLayer) {
+		for (int i = 0; i < BLOCK_LAYER_TABLES.length; i++) {
+			if (BLOCK_LAYERS.get(i) == defaultLayer) {
+				return BLOCK_LAYER_TABLES[i];
+			}
+		}
+
+		return OTHER_LAYER_TABLES.computeIfAbsent(defaultLayer, MaterialTable::createLayerTable);
+	}
+
+	private static RenderLayer[] createLayerTable(RenderLayer defaultLayer) {
+		RenderLayer[] layers = new RenderLayer[RenderMaterialImpl.VALUE_COUNT];
+
+		for (int i = 0; i < RenderMaterialImpl.VALUE_COUNT; i++) {
+			RenderMaterialImpl material = RenderMaterialImpl.byIndex(i);
+
+			if (material != null) {
+				BlendMode blendMode = material.blendMode();
+				layers[i] = blendMode == BlendMode.DEFAULT ? defaultLayer : blendMode.blockRenderLayer;
+			}
+		}
+
+		return layers;
+	}
+}
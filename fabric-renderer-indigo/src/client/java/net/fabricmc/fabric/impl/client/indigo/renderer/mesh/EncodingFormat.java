@@ -145,6 +145,10 @@ public final class EncodingFormat {
 		return RenderMaterialImpl.byIndex((bits & MATERIAL_MASK) >>> MATERIAL_BIT_OFFSET);
 	}
 
+	static int materialIndex(int bits) {
+		return (bits & MATERIAL_MASK) >>> MATERIAL_BIT_OFFSET;
+	}
+
 	static int material(int bits, RenderMaterialImpl material) {
 		return (bits & ~MATERIAL_MASK) | (material.index() << MATERIAL_BIT_OFFSET);
 	}
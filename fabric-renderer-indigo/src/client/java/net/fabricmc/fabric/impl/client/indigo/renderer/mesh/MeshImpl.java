@@ -24,6 +24,7 @@ import org.jetbrains.annotations.Range;
 import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
 import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
 import net.fabricmc.fabric.api.renderer.v1.mesh.QuadView;
+import net.fabricmc.fabric.api.renderer.v1.model.ModelHelper;
 
 public class MeshImpl implements Mesh {
 	/** Used to satisfy external calls to {@link #forEach(Consumer)}. */
@@ -32,9 +33,17 @@ public class MeshImpl implements Mesh {
 	int[] data;
 	int limit;
 
+	/**
+	 * Bit {@code i} is set if some quad of this mesh has the cull face with {@link ModelHelper#toFaceIndex} index {@code i},
+	 * excluding null cull faces. Only computed for immutable meshes, because mutable meshes can change after they are
+	 * output, which is marked by {@code -1}.
+	 */
+	private int cullFaces = -1;
+
 	MeshImpl(int[] data) {
 		this.data = data;
 		limit = data.length;
+		cullFaces = computeCullFaces();
 	}
 
 	MeshImpl() {
@@ -81,11 +90,36 @@ public class MeshImpl implements Mesh {
 		cursor.data = null;
 	}
 
+	private int computeCullFaces() {
+		int cullFaces = 0;
+
+		for (int index = 0; index < limit; index += EncodingFormat.TOTAL_STRIDE) {
+			cullFaces |= 1 << cullFaceIndex(data, index);
+		}
+
+		return cullFaces & ~(1 << ModelHelper.NULL_FACE_ID);
+	}
+
+	private static int cullFaceIndex(int[] data, int index) {
+		return ModelHelper.toFaceIndex(EncodingFormat.cullFace(data[index + EncodingFormat.HEADER_BITS]));
+	}
+
 	// TODO: This could be optimized by checking if the emitter is that of a MutableMeshImpl and if
 	//  it has no transforms, in which case the entire data array can be copied in bulk.
 	@Override
 	public void outputTo(QuadEmitter emitter) {
 		MutableQuadViewImpl e = (MutableQuadViewImpl) emitter;
+
+		if (e.hasTransform()) {
+			outputTransformed(e);
+		} else {
+			outputUntransformed(e);
+		}
+
+		e.clear();
+	}
+
+	private void outputTransformed(MutableQuadViewImpl e) {
 		final int[] data = this.data;
 		final int limit = this.limit;
 		int index = 0;
@@ -96,7 +130,34 @@ public class MeshImpl implements Mesh {
 			e.transformAndEmit();
 			index += EncodingFormat.TOTAL_STRIDE;
 		}
+	}
 
-		e.clear();
+	/**
+	 * Without transforms, the cull face of each quad is known before it is copied, so culled quads are skipped
+	 * without being copied. Quads are still emitted in their original order.
+	 */
+	private void outputUntransformed(MutableQuadViewImpl e) {
+		final int[] data = this.data;
+		final int limit = this.limit;
+		final int cullFaces = this.cullFaces;
+		int culledFaces = 0;
+
+		if (cullFaces != -1) {
+			for (int i = 0; i < ModelHelper.NULL_FACE_ID; i++) {
+				if ((cullFaces & (1 << i)) != 0 && e.isCulled(ModelHelper.faceFromIndex(i))) {
+					culledFaces |= 1 << i;
+				}
+			}
+		}
+
+		for (int index = 0; index < limit; index += EncodingFormat.TOTAL_STRIDE) {
+			if (culledFaces != 0 && (culledFaces & (1 << cullFaceIndex(data, index))) != 0) {
+				continue;
+			}
+
+			System.arraycopy(data, index, e.data, e.baseIndex, EncodingFormat.TOTAL_STRIDE);
+			e.load();
+			e.emitDirectly();
+		}
 	}
 }
@@ -36,6 +36,7 @@ import net.minecraft.client.texture.Sprite;
 import net.minecraft.util.math.Direction;
 
 import net.fabricmc.fabric.api.renderer.v1.material.RenderMaterial;
+import net.fabricmc.fabric.api.renderer.v1.mesh.AffineQuadTransform;
 import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
 import net.fabricmc.fabric.api.renderer.v1.mesh.QuadTransform;
 import net.fabricmc.fabric.api.renderer.v1.mesh.QuadView;
@@ -78,7 +79,14 @@ public abstract class MutableQuadViewImpl extends QuadViewImpl implements QuadEm
 	}
 
 	private QuadTransform activeTransform = NO_TRANSFORM;
+	/**
+	 * The transforms to apply, where consecutive {@link AffineQuadTransform}s are fused into one entry.
+	 * Each push either adds an entry, or replaces the last one. In that case the replaced entry is saved
+	 * in {@link #replacedTransforms} so that it can be restored on pop.
+	 */
 	private final ObjectArrayList<QuadTransform> transformStack = new ObjectArrayList<>();
+	/** For each push, the transform it replaced on top of {@link #transformStack}, or {@code null} if it added one. */
+	private final ObjectArrayList<QuadTransform> replacedTransforms = new ObjectArrayList<>();
 	private final QuadTransform stackTransform = q -> {
 		int i = transformStack.size() - 1;
 
@@ -263,26 +271,57 @@ public abstract class MutableQuadViewImpl extends QuadViewImpl implements QuadEm
 			throw new NullPointerException("QuadTransform cannot be null!");
 		}
 
-		transformStack.push(transform);
-
-		if (transformStack.size() == 1) {
-			activeTransform = transform;
-		} else if (transformStack.size() == 2) {
-			activeTransform = stackTransform;
+		if (transform instanceof AffineQuadTransform affine && !transformStack.isEmpty() && transformStack.top() instanceof AffineQuadTransform top) {
+			// The last pushed transform is applied first
+			replacedTransforms.push(top);
+			transformStack.set(transformStack.size() - 1, affine.andThen(top));
+		} else {
+			replacedTransforms.push(null);
+			transformStack.push(transform);
 		}
+
+		updateActiveTransform();
 	}
 
 	@Override
 	public void popTransform() {
-		transformStack.pop();
+		final QuadTransform replaced = replacedTransforms.pop();
+
+		if (replaced != null) {
+			transformStack.set(transformStack.size() - 1, replaced);
+		} else {
+			transformStack.pop();
+		}
+
+		updateActiveTransform();
+	}
 
-		if (transformStack.size() == 0) {
+	private void updateActiveTransform() {
+		if (transformStack.isEmpty()) {
 			activeTransform = NO_TRANSFORM;
 		} else if (transformStack.size() == 1) {
 			activeTransform = transformStack.get(0);
+		} else {
+			activeTransform = stackTransform;
 		}
 	}
 
+	/**
+	 * Whether any transform is pushed. Without transforms, {@link #emitDirectly()} can be called instead of
+	 * {@link #transformAndEmit()}, and the cull face of the emitted quad is the one it was encoded with.
+	 */
+	public final boolean hasTransform() {
+		return activeTransform != NO_TRANSFORM;
+	}
+
+	/**
+	 * Whether {@link #emitDirectly()} discards quads with the given cull face. Used by {@link MeshImpl#outputTo}
+	 * to skip culled quads before copying them, when no transform is active.
+	 */
+	protected boolean isCulled(@Nullable Direction cullFace) {
+		return false;
+	}
+
 	/**
 	 * Emit the quad without applying transforms and without clearing the underlying data.
 	 * Geometry is not guaranteed to be valid when called, but can be computed by calling {@link #computeGeometry()}.
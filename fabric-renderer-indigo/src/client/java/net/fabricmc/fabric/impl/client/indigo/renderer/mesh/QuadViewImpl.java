@@ -249,6 +249,13 @@ public class QuadViewImpl implements QuadView {
 		return EncodingFormat.material(data[baseIndex + HEADER_BITS]);
 	}
 
+	/**
+	 * @return the {@link RenderMaterialImpl#index() index} of the material, without looking up the material
+	 */
+	public final int materialIndex() {
+		return EncodingFormat.materialIndex(data[baseIndex + HEADER_BITS]);
+	}
+
 	@Override
 	public final int tintIndex() {
 		return data[baseIndex + HEADER_TINT_INDEX];
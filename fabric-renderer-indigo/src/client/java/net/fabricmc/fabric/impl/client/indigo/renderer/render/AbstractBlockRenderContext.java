@@ -19,6 +19,7 @@ package net.fabricmc.fabric.impl.client.indigo.renderer.render;
 import static net.fabricmc.fabric.impl.client.indigo.renderer.helper.GeometryHelper.AXIS_ALIGNED_FLAG;
 import static net.fabricmc.fabric.impl.client.indigo.renderer.helper.GeometryHelper.LIGHT_FACE_FLAG;
 
+import org.jetbrains.annotations.Nullable;
 import org.joml.Vector3fc;
 
 import net.minecraft.block.BlockState;
@@ -29,22 +30,25 @@ import net.minecraft.client.render.WorldRenderer;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.Direction;
 
-import net.fabricmc.fabric.api.renderer.v1.material.RenderMaterial;
-import net.fabricmc.fabric.api.renderer.v1.material.ShadeMode;
-import net.fabricmc.fabric.api.util.TriState;
 import net.fabricmc.fabric.impl.client.indigo.Indigo;
 import net.fabricmc.fabric.impl.client.indigo.renderer.aocalc.AoCalculator;
 import net.fabricmc.fabric.impl.client.indigo.renderer.aocalc.AoConfig;
 import net.fabricmc.fabric.impl.client.indigo.renderer.helper.ColorHelper;
+import net.fabricmc.fabric.impl.client.indigo.renderer.material.MaterialTable;
 import net.fabricmc.fabric.impl.client.indigo.renderer.mesh.MutableQuadViewImpl;
 
 public abstract class AbstractBlockRenderContext extends AbstractRenderContext {
-	protected final BlockRenderInfo blockInfo = new BlockRenderInfo();
+	protected final BlockRenderInfo blockInfo;
 	protected final AoCalculator aoCalc;
 
 	private final BlockPos.Mutable lightPos = new BlockPos.Mutable();
 
 	protected AbstractBlockRenderContext() {
+		this(new BlockRenderInfo());
+	}
+
+	protected AbstractBlockRenderContext(BlockRenderInfo blockInfo) {
+		this.blockInfo = blockInfo;
 		aoCalc = createAoCalc(blockInfo);
 	}
 
@@ -52,18 +56,36 @@ public abstract class AbstractBlockRenderContext extends AbstractRenderContext {
 
 	protected abstract VertexConsumer getVertexConsumer(RenderLayer layer);
 
+	@Override
+	protected boolean isFaceCulled(@Nullable Direction cullFace) {
+		// While profiling, culled quads are counted in bufferQuad
+		return profiler == null && blockInfo.shouldCullSide(cullFace);
+	}
+
 	@Override
 	protected void bufferQuad(MutableQuadViewImpl quad) {
+		if (profiler != null) {
+			profiler.emittedQuads++;
+		}
+
 		if (blockInfo.shouldCullSide(quad.cullFace())) {
+			if (profiler != null) {
+				profiler.culledQuads++;
+			}
+
 			return;
 		}
 
-		final RenderMaterial mat = quad.material();
-		final TriState aoMode = mat.ambientOcclusion();
-		final boolean ao = blockInfo.useAo && (aoMode == TriState.TRUE || (aoMode == TriState.DEFAULT && blockInfo.defaultAo));
-		final boolean emissive = mat.emissive();
-		final boolean vanillaShade = mat.shadeMode() == ShadeMode.VANILLA;
-		final VertexConsumer vertexConsumer = getVertexConsumer(blockInfo.effectiveRenderLayer(mat.blendMode()));
+		final int materialIndex = quad.materialIndex();
+		final int materialFlags = MaterialTable.flags(materialIndex);
+		final boolean ao = (materialFlags & blockInfo.aoFlags) != 0;
+		final boolean emissive = (materialFlags & MaterialTable.EMISSIVE) != 0;
+		final boolean vanillaShade = (materialFlags & MaterialTable.VANILLA_SHADE) != 0;
+		final VertexConsumer vertexConsumer = getVertexConsumer(blockInfo.materialLayers[materialIndex]);
+
+		if (ao && profiler != null) {
+			profiler.smoothLitQuads++;
+		}
 
 		tintQuad(quad);
 		shadeQuad(quad, ao, emissive, vanillaShade);
@@ -134,7 +156,7 @@ public abstract class AbstractBlockRenderContext extends AbstractRenderContext {
 				final float faceShade;
 
 				if ((quad.geometryFlags() & AXIS_ALIGNED_FLAG) != 0) {
-					faceShade = blockInfo.blockView.getBrightness(quad.lightFace(), hasShade);
+					faceShade = blockInfo.faceShade(quad.lightFace(), hasShade);
 				} else {
 					Vector3fc faceNormal = quad.faceNormal();
 					faceShade = normalShade(faceNormal.x(), faceNormal.y(), faceNormal.z(), hasShade);
@@ -161,7 +183,7 @@ public abstract class AbstractBlockRenderContext extends AbstractRenderContext {
 				}
 			}
 		} else {
-			final float faceShade = blockInfo.blockView.getBrightness(quad.lightFace(), hasShade);
+			final float faceShade = blockInfo.faceShade(quad.lightFace(), hasShade);
 
 			if (faceShade != 1.0f) {
 				for (int i = 0; i < 4; i++) {
@@ -181,26 +203,26 @@ public abstract class AbstractBlockRenderContext extends AbstractRenderContext {
 		float div = 0;
 
 		if (normalX > 0) {
-			sum += normalX * blockInfo.blockView.getBrightness(Direction.EAST, hasShade);
+			sum += normalX * blockInfo.faceShade(Direction.EAST, hasShade);
 			div += normalX;
 		} else if (normalX < 0) {
-			sum += -normalX * blockInfo.blockView.getBrightness(Direction.WEST, hasShade);
+			sum += -normalX * blockInfo.faceShade(Direction.WEST, hasShade);
 			div -= normalX;
 		}
 
 		if (normalY > 0) {
-			sum += normalY * blockInfo.blockView.getBrightness(Direction.UP, hasShade);
+			sum += normalY * blockInfo.faceShade(Direction.UP, hasShade);
 			div += normalY;
 		} else if (normalY < 0) {
-			sum += -normalY * blockInfo.blockView.getBrightness(Direction.DOWN, hasShade);
+			sum += -normalY * blockInfo.faceShade(Direction.DOWN, hasShade);
 			div -= normalY;
 		}
 
 		if (normalZ > 0) {
-			sum += normalZ * blockInfo.blockView.getBrightness(Direction.SOUTH, hasShade);
+			sum += normalZ * blockInfo.faceShade(Direction.SOUTH, hasShade);
 			div += normalZ;
 		} else if (normalZ < 0) {
-			sum += -normalZ * blockInfo.blockView.getBrightness(Direction.NORTH, hasShade);
+			sum += -normalZ * blockInfo.faceShade(Direction.NORTH, hasShade);
 			div -= normalZ;
 		}
 
@@ -16,14 +16,17 @@
 
 package net.fabricmc.fabric.impl.client.indigo.renderer.render;
 
+import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix3f;
 import org.joml.Matrix4f;
 import org.joml.Vector3f;
 import org.joml.Vector4f;
 
 import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.util.math.Direction;
 
 import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+import net.fabricmc.fabric.impl.client.indigo.Indigo;
 import net.fabricmc.fabric.impl.client.indigo.renderer.mesh.EncodingFormat;
 import net.fabricmc.fabric.impl.client.indigo.renderer.mesh.MutableQuadViewImpl;
 
@@ -38,11 +41,20 @@ public abstract class AbstractRenderContext {
 		protected void emitDirectly() {
 			bufferQuad(this);
 		}
+
+		@Override
+		protected boolean isCulled(@Nullable Direction cullFace) {
+			return isFaceCulled(cullFace);
+		}
 	};
 
 	private final Vector4f posVec = new Vector4f();
 	private final Vector3f normalVec = new Vector3f();
 
+	/** Only present when model profiling is enabled. */
+	@Nullable
+	protected final ModelProfiler profiler = Indigo.PROFILE_MODELS ? new ModelProfiler() : null;
+
 	protected Matrix4f matrix;
 	protected Matrix3f normalMatrix;
 	protected int overlay;
@@ -54,6 +66,13 @@ public abstract class AbstractRenderContext {
 
 	protected abstract void bufferQuad(MutableQuadViewImpl quadView);
 
+	/**
+	 * Whether {@link #bufferQuad(MutableQuadViewImpl)} discards quads with the given cull face.
+	 */
+	protected boolean isFaceCulled(@Nullable Direction cullFace) {
+		return false;
+	}
+
 	/** final output step, common to all renders. */
 	protected void bufferQuad(MutableQuadViewImpl quad, VertexConsumer vertexConsumer) {
 		final Vector4f posVec = this.posVec;
@@ -0,0 +1,335 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.client.indigo.renderer.render;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.client.render.model.BakedModel;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Direction;
+
+/**
+ * Keeps the final vertex data of the blocks of recently built sections, so that blocks whose inputs did not change
+ * can be copied to the buffers when their section is rebuilt, without emitting, lighting and shading their quads again.
+ *
+ * <p>Only blocks rendered with vanilla adapter models and without block entities are cached, because their output
+ * only depends on the following, which are all part of the cache key:
+ * <ul><li>the block state and model,
+ * <li>the position of the block, since entries are stored per position within the section,
+ * <li>which faces are culled,
+ * <li>the states, brightness and AO levels of the block and its 26 neighbors,
+ * <li>the block colors used to tint the quads.</ul>
+ *
+ * <p>One instance is used per {@link TerrainRenderContext}, which is thread local. The section caches are shared
+ * between threads, a section being rebuilt is removed from the shared map until its rebuild is done.
+ */
+public final class BlockOutputCache {
+	private static final int MAX_SECTIONS = 128;
+	private static final int VERTEX_STRIDE = 11;
+	private static final Map<Long, Section> SECTIONS = Collections.synchronizedMap(new LinkedHashMap<>(MAX_SECTIONS, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Long, Section> eldest) {
+			return size() > MAX_SECTIONS;
+		}
+	});
+	private static final LongAdder HITS = new LongAdder();
+	private static final LongAdder MISSES = new LongAdder();
+
+	private final BlockPos.Mutable searchPos = new BlockPos.Mutable();
+	private final List<Recorder> recorders = new ArrayList<>();
+	private final IntArrayList tintIndices = new IntArrayList();
+	private long sectionKey;
+	@Nullable
+	private Section previous;
+	@Nullable
+	private Section current;
+	@Nullable
+	private Entry recording;
+
+	static boolean isCacheable(BlockState blockState, BakedModel model) {
+		return model.isVanillaAdapter() && !blockState.hasBlockEntity();
+	}
+
+	/**
+	 * @return a line describing the hit rate of the cache, for the debug screen
+	 */
+	public static String getDebugString() {
+		final long hits = HITS.sum();
+		final long total = hits + MISSES.sum();
+		final double rate = total == 0 ? 0 : 100.0 * hits / total;
+		return String.format("Indigo block cache: %.1f%% hits (%d/%d), %d sections", rate, hits, total, SECTIONS.size());
+	}
+
+	void prepare(ChunkSectionPos sectionPos) {
+		sectionKey = sectionPos.asLong();
+		previous = SECTIONS.remove(sectionKey);
+		current = new Section();
+	}
+
+	void release() {
+		if (current != null) {
+			SECTIONS.put(sectionKey, current);
+		}
+
+		previous = null;
+		current = null;
+		recording = null;
+	}
+
+	boolean isActive() {
+		return current != null;
+	}
+
+	boolean isRecording() {
+		return recording != null;
+	}
+
+	/**
+	 * Copies the previous output of the block to the buffers, if its inputs did not change.
+	 *
+	 * @return whether the block was rendered from the cache
+	 */
+	boolean tryReplay(BlockRenderInfo blockInfo, BakedModel model, ChunkRenderInfo chunkInfo, long key) {
+		final int index = index(blockInfo.blockPos);
+		final Entry entry = previous == null ? null : previous.entries[index];
+
+		if (entry == null || entry.key != key || entry.blockState != blockInfo.blockState || entry.model != model
+				|| entry.defaultLayer != blockInfo.defaultLayer || !entry.tintsMatch(blockInfo)) {
+			MISSES.increment();
+			return false;
+		}
+
+		HITS.increment();
+		entry.replay(chunkInfo);
+		current.entries[index] = entry;
+		return true;
+	}
+
+	void startRecording(BlockRenderInfo blockInfo, BakedModel model, long key) {
+		recording = new Entry(key, blockInfo.blockState, model, blockInfo.defaultLayer);
+		tintIndices.clear();
+	}
+
+	/**
+	 * Called for every quad of the recorded block, before it is tinted.
+	 */
+	void recordTint(int tintIndex) {
+		if (tintIndex != -1 && !tintIndices.contains(tintIndex)) {
+			tintIndices.add(tintIndex);
+		}
+	}
+
+	VertexConsumer recorder(RenderLayer layer) {
+		for (int i = 0; i < recorders.size(); i++) {
+			Recorder recorder = recorders.get(i);
+
+			if (recorder.layer == layer) {
+				return recorder;
+			}
+
+			if (recorder.layer == null) {
+				recorder.layer = layer;
+				return recorder;
+			}
+		}
+
+		Recorder recorder = new Recorder();
+		recorder.layer = layer;
+		recorders.add(recorder);
+		return recorder;
+	}
+
+	/**
+	 * Stores the recorded output of the block, and copies it to the buffers.
+	 */
+	void finishRecording(BlockRenderInfo blockInfo, ChunkRenderInfo chunkInfo) {
+		final Entry entry = recording;
+		recording = null;
+
+		int layerCount = 0;
+
+		while (layerCount < recorders.size() && recorders.get(layerCount).layer != null) {
+			layerCount++;
+		}
+
+		entry.layers = new RenderLayer[layerCount];
+		entry.vertexData = new int[layerCount][];
+
+		for (int i = 0; i < layerCount; i++) {
+			Recorder recorder = recorders.get(i);
+			entry.layers[i] = recorder.layer;
+			entry.vertexData[i] = recorder.data.toIntArray();
+			recorder.layer = null;
+			recorder.data.clear();
+		}
+
+		entry.tintIndices = tintIndices.toIntArray();
+		entry.tintColors = new int[entry.tintIndices.length];
+
+		for (int i = 0; i < entry.tintIndices.length; i++) {
+			entry.tintColors[i] = blockInfo.blockColor(entry.tintIndices[i]);
+		}
+
+		entry.replay(chunkInfo);
+		current.entries[index(blockInfo.blockPos)] = entry;
+	}
+
+	/**
+	 * Hashes everything the output of a cacheable block depends on, except what {@link Entry} compares directly.
+	 */
+	long computeKey(BlockRenderInfo blockInfo, ChunkRenderInfo chunkInfo) {
+		long hash = 0;
+
+		for (Direction face : Direction.values()) {
+			hash = (hash << 1) | (blockInfo.shouldDrawSide(face) ? 1 : 0);
+		}
+
+		hash = hash << 2 | (blockInfo.useAo ? 2 : 0) | (blockInfo.defaultAo ? 1 : 0);
+		final BlockPos pos = blockInfo.blockPos;
+
+		for (int y = -1; y <= 1; y++) {
+			for (int z = -1; z <= 1; z++) {
+				for (int x = -1; x <= 1; x++) {
+					searchPos.set(pos.getX() + x, pos.getY() + y, pos.getZ() + z);
+					final BlockState state = blockInfo.blockView.getBlockState(searchPos);
+					hash = mix(hash, System.identityHashCode(state));
+					hash = mix(hash, chunkInfo.cachedBrightness(searchPos, state));
+					hash = mix(hash, Float.floatToRawIntBits(chunkInfo.cachedAoLevel(searchPos, state)));
+				}
+			}
+		}
+
+		return hash;
+	}
+
+	private static long mix(long hash, int value) {
+		long h = (hash ^ value) * 0x9E3779B97F4A7C15L;
+		return h ^ (h >>> 32);
+	}
+
+	private static int index(BlockPos pos) {
+		return (pos.getY() & 15) << 8 | (pos.getZ() & 15) << 4 | (pos.getX() & 15);
+	}
+
+	private static class Section {
+		final Entry[] entries = new Entry[16 * 16 * 16];
+	}
+
+	private static class Entry {
+		final long key;
+		final BlockState blockState;
+		final BakedModel model;
+		final RenderLayer defaultLayer;
+		RenderLayer[] layers;
+		int[][] vertexData;
+		int[] tintIndices;
+		int[] tintColors;
+
+		Entry(long key, BlockState blockState, BakedModel model, RenderLayer defaultLayer) {
+			this.key = key;
+			this.blockState = blockState;
+			this.model = model;
+			this.defaultLayer = defaultLayer;
+		}
+
+		boolean tintsMatch(BlockRenderInfo blockInfo) {
+			for (int i = 0; i < tintIndices.length; i++) {
+				if (blockInfo.blockColor(tintIndices[i]) != tintColors[i]) {
+					return false;
+				}
+			}
+
+			return true;
+		}
+
+		void replay(ChunkRenderInfo chunkInfo) {
+			for (int i = 0; i < layers.length; i++) {
+				final VertexConsumer buffer = chunkInfo.getBuffer(layers[i]);
+				final int[] data = vertexData[i];
+
+				for (int j = 0; j < data.length; j += VERTEX_STRIDE) {
+					buffer.vertex(Float.intBitsToFloat(data[j]), Float.intBitsToFloat(data[j + 1]), Float.intBitsToFloat(data[j + 2]),
+							data[j + 3], Float.intBitsToFloat(data[j + 4]), Float.intBitsToFloat(data[j + 5]), data[j + 6], data[j + 7],
+							Float.intBitsToFloat(data[j + 8]), Float.intBitsToFloat(data[j + 9]), Float.intBitsToFloat(data[j + 10]));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Records the vertices written by {@link AbstractRenderContext#bufferQuad(net.fabricmc.fabric.impl.client.indigo.renderer.mesh.MutableQuadViewImpl, VertexConsumer)},
+	 * which always calls the vertex consumer methods in the same order.
+	 */
+	private static class Recorder implements VertexConsumer {
+		final IntArrayList data = new IntArrayList();
+		@Nullable
+		RenderLayer layer;
+
+		@Override
+		public VertexConsumer vertex(float x, float y, float z) {
+			data.add(Float.floatToRawIntBits(x));
+			data.add(Float.floatToRawIntBits(y));
+			data.add(Float.floatToRawIntBits(z));
+			return this;
+		}
+
+		@Override
+		public VertexConsumer color(int red, int green, int blue, int alpha) {
+			data.add(alpha << 24 | red << 16 | green << 8 | blue);
+			return this;
+		}
+
+		@Override
+		public VertexConsumer texture(float u, float v) {
+			data.add(Float.floatToRawIntBits(u));
+			data.add(Float.floatToRawIntBits(v));
+			return this;
+		}
+
+		@Override
+		public VertexConsumer overlay(int u, int v) {
+			data.add(u & 0xFFFF | (v & 0xFFFF) << 16);
+			return this;
+		}
+
+		@Override
+		public VertexConsumer light(int u, int v) {
+			data.add(u & 0xFFFF | (v & 0xFFFF) << 16);
+			return this;
+		}
+
+		@Override
+		public VertexConsumer normal(float x, float y, float z) {
+			data.add(Float.floatToRawIntBits(x));
+			data.add(Float.floatToRawIntBits(y));
+			data.add(Float.floatToRawIntBits(z));
+			return this;
+		}
+	}
+}
@@ -31,7 +31,7 @@ import net.minecraft.util.math.Direction;
 import net.minecraft.util.math.random.Random;
 import net.minecraft.world.BlockRenderView;
 
-import net.fabricmc.fabric.api.renderer.v1.material.BlendMode;
+import net.fabricmc.fabric.impl.client.indigo.renderer.material.MaterialTable;
 
 /**
  * Holds, manages, and provides access to the block/world related state
@@ -41,7 +41,7 @@ import net.fabricmc.fabric.api.renderer.v1.material.BlendMode;
  * so they can be applied together with chunk offsets.
  */
 public class BlockRenderInfo {
-	private final BlockColors blockColorMap = MinecraftClient.getInstance().getBlockColors();
+	private final BlockColors blockColorMap;
 	private final BlockPos.Mutable searchPos = new BlockPos.Mutable();
 
 	public BlockRenderView blockView;
@@ -51,6 +51,10 @@ public class BlockRenderInfo {
 	boolean useAo;
 	boolean defaultAo;
 	RenderLayer defaultLayer;
+	/** Flags from {@link MaterialTable} that enable ambient occlusion for this block. */
+	int aoFlags;
+	/** Render layer of each material index for this block. */
+	RenderLayer[] materialLayers;
 
 	Random random;
 	long seed;
@@ -73,22 +77,52 @@ public class BlockRenderInfo {
 	private int cullCompletionFlags;
 	private int cullResultFlags;
 
+	private int cachedTintIndex;
+	private int cachedTintColor;
+
+	/**
+	 * Face shade factors for the current world, indexed by {@code face.getId() * 2 + (shaded ? 1 : 0)}.
+	 * They only depend on the dimension, but are looked up up to three times per vertex by diffuse shading.
+	 */
+	private final float[] faceShades = new float[12];
+	private int faceShadeFlags;
+
+	public BlockRenderInfo() {
+		this(MinecraftClient.getInstance().getBlockColors());
+	}
+
+	/**
+	 * Allows rendering blocks without a client instance, for example in benchmarks.
+	 */
+	public BlockRenderInfo(BlockColors blockColorMap) {
+		this.blockColorMap = blockColorMap;
+	}
+
 	public void prepareForWorld(BlockRenderView blockView, boolean enableCulling) {
 		this.blockView = blockView;
 		this.enableCulling = enableCulling;
+		faceShadeFlags = 0;
 	}
 
 	public void prepareForBlock(BlockState blockState, BlockPos blockPos, boolean modelAo) {
+		prepareForBlock(blockState, blockPos, modelAo, MinecraftClient.isAmbientOcclusionEnabled());
+	}
+
+	public void prepareForBlock(BlockState blockState, BlockPos blockPos, boolean modelAo, boolean useAo) {
 		this.blockPos = blockPos;
 		this.blockState = blockState;
 
-		useAo = MinecraftClient.isAmbientOcclusionEnabled();
+		this.useAo = useAo;
 		defaultAo = useAo && modelAo && blockState.getLuminance() == 0;
 
+		aoFlags = MaterialTable.aoFlags(useAo, defaultAo);
+
 		defaultLayer = RenderLayers.getBlockLayer(blockState);
+		materialLayers = MaterialTable.layers(defaultLayer);
 
 		cullCompletionFlags = 0;
 		cullResultFlags = 0;
+		cachedTintIndex = -1;
 	}
 
 	public void release() {
@@ -98,7 +132,28 @@ public class BlockRenderInfo {
 	}
 
 	int blockColor(int tintIndex) {
-		return 0xFF000000 | blockColorMap.getColor(blockState, blockView, blockPos, tintIndex);
+		// Quads of a block usually share their tint index, and biome blending makes the lookup expensive
+		if (tintIndex != cachedTintIndex) {
+			cachedTintColor = 0xFF000000 | blockColorMap.getColor(blockState, blockView, blockPos, tintIndex);
+			cachedTintIndex = tintIndex;
+		}
+
+		return cachedTintColor;
+	}
+
+	/**
+	 * Cached version of {@link BlockRenderView#getBrightness(Direction, boolean)}.
+	 */
+	public float faceShade(Direction face, boolean shaded) {
+		final int index = face.getId() << 1 | (shaded ? 1 : 0);
+		final int mask = 1 << index;
+
+		if ((faceShadeFlags & mask) == 0) {
+			faceShades[index] = blockView.getBrightness(face, shaded);
+			faceShadeFlags |= mask;
+		}
+
+		return faceShades[index];
 	}
 
 	boolean shouldDrawSide(@Nullable Direction side) {
@@ -125,8 +180,4 @@ public class BlockRenderInfo {
 	boolean shouldCullSide(@Nullable Direction side) {
 		return !shouldDrawSide(side);
 	}
-
-	RenderLayer effectiveRenderLayer(BlendMode blendMode) {
-		return blendMode == BlendMode.DEFAULT ? this.defaultLayer : blendMode.blockRenderLayer;
-	}
 }
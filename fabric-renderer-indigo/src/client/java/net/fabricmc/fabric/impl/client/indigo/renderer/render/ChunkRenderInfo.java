@@ -16,21 +16,25 @@
 
 package net.fabricmc.fabric.impl.client.indigo.renderer.render;
 
+import java.util.Arrays;
 import java.util.function.Function;
 
 import it.unimi.dsi.fastutil.longs.Long2FloatOpenHashMap;
 import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import org.jetbrains.annotations.Nullable;
 
 import net.minecraft.block.BlockState;
 import net.minecraft.client.render.BufferBuilder;
 import net.minecraft.client.render.RenderLayer;
 import net.minecraft.client.render.WorldRenderer;
-import net.minecraft.client.render.chunk.ChunkRendererRegion;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.world.BlockRenderView;
 
+import net.fabricmc.fabric.impl.client.indigo.Indigo;
 import net.fabricmc.fabric.impl.client.indigo.renderer.aocalc.AoCalculator;
 import net.fabricmc.fabric.impl.client.indigo.renderer.aocalc.AoLuminanceFix;
+import net.fabricmc.fabric.impl.client.indigo.renderer.aocalc.LightCacheConfig;
 
 /**
  * Holds, manages and provides access to the chunk-related state
@@ -65,22 +69,117 @@ public class ChunkRenderInfo {
 	private final Long2IntOpenHashMap brightnessCache;
 	private final Long2FloatOpenHashMap aoLevelCache;
 
+	// AO only looks at direct neighbors, so a margin of one block covers all lookups made for blocks of the section.
+	private static final int GRID_MARGIN = 1;
+	private static final int GRID_SIZE = 16 + 2 * GRID_MARGIN;
+	private static final int GRID_VOLUME = GRID_SIZE * GRID_SIZE * GRID_SIZE;
+
+	private final LightCacheConfig lightCacheConfig;
+	/**
+	 * Dense cache of {@link #brightnessCache} covering the section being rendered and the blocks around it,
+	 * indexed by position relative to {@link #gridOriginX}, {@link #gridOriginY} and {@link #gridOriginZ}.
+	 * Anything outside of the grid falls back to the hash map.
+	 */
+	@Nullable
+	private final int[] brightnessGrid;
+	/**
+	 * Dense cache of {@link #aoLevelCache}, laid out like {@link #brightnessGrid}.
+	 */
+	@Nullable
+	private final float[] aoLevelGrid;
+	private boolean useGrid;
+	private int gridOriginX;
+	private int gridOriginY;
+	private int gridOriginZ;
+
 	private Function<RenderLayer, BufferBuilder> bufferFunc;
 	BlockRenderView blockView;
 
 	ChunkRenderInfo() {
+		this(Indigo.TERRAIN_LIGHT_CACHE);
+	}
+
+	ChunkRenderInfo(LightCacheConfig lightCacheConfig) {
+		this.lightCacheConfig = lightCacheConfig;
 		brightnessCache = new Long2IntOpenHashMap();
 		brightnessCache.defaultReturnValue(Integer.MAX_VALUE);
 		aoLevelCache = new Long2FloatOpenHashMap();
 		aoLevelCache.defaultReturnValue(Float.MAX_VALUE);
+
+		if (lightCacheConfig != LightCacheConfig.HASH) {
+			brightnessGrid = new int[GRID_VOLUME];
+			aoLevelGrid = new float[GRID_VOLUME];
+		} else {
+			brightnessGrid = null;
+			aoLevelGrid = null;
+		}
 	}
 
-	void prepare(ChunkRendererRegion blockView, Function<RenderLayer, BufferBuilder> bufferFunc) {
+	void prepare(BlockRenderView blockView, Function<RenderLayer, BufferBuilder> bufferFunc) {
+		prepare(blockView, null, bufferFunc);
+	}
+
+	/**
+	 * @param sectionPos the section being rendered, used to position the dense caches, or {@code null} to only use the hash maps
+	 */
+	void prepare(BlockRenderView blockView, @Nullable ChunkSectionPos sectionPos, Function<RenderLayer, BufferBuilder> bufferFunc) {
 		this.blockView = blockView;
 		this.bufferFunc = bufferFunc;
 
 		brightnessCache.clear();
 		aoLevelCache.clear();
+
+		useGrid = brightnessGrid != null && sectionPos != null;
+
+		if (useGrid) {
+			gridOriginX = sectionPos.getMinX() - GRID_MARGIN;
+			gridOriginY = sectionPos.getMinY() - GRID_MARGIN;
+			gridOriginZ = sectionPos.getMinZ() - GRID_MARGIN;
+
+			if (lightCacheConfig == LightCacheConfig.PREFETCH) {
+				prefetchGrid();
+			} else {
+				Arrays.fill(brightnessGrid, Integer.MAX_VALUE);
+				Arrays.fill(aoLevelGrid, Float.MAX_VALUE);
+			}
+		}
+	}
+
+	private void prefetchGrid() {
+		final BlockPos.Mutable pos = new BlockPos.Mutable();
+		int index = 0;
+
+		// Same iteration order as gridIndex, so the arrays are written sequentially
+		for (int y = 0; y < GRID_SIZE; y++) {
+			for (int z = 0; z < GRID_SIZE; z++) {
+				for (int x = 0; x < GRID_SIZE; x++) {
+					pos.set(gridOriginX + x, gridOriginY + y, gridOriginZ + z);
+					BlockState state = blockView.getBlockState(pos);
+					brightnessGrid[index] = AoCalculator.getLightmapCoordinates(blockView, state, pos);
+					aoLevelGrid[index] = AoLuminanceFix.INSTANCE.apply(blockView, pos, state);
+					index++;
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the index of the position in the dense caches, or -1 if it is not covered by them
+	 */
+	private int gridIndex(BlockPos pos) {
+		if (!useGrid) {
+			return -1;
+		}
+
+		int x = pos.getX() - gridOriginX;
+		int y = pos.getY() - gridOriginY;
+		int z = pos.getZ() - gridOriginZ;
+
+		if (x < 0 || y < 0 || z < 0 || x >= GRID_SIZE || y >= GRID_SIZE || z >= GRID_SIZE) {
+			return -1;
+		}
+
+		return (y * GRID_SIZE + z) * GRID_SIZE + x;
 	}
 
 	void release() {
@@ -97,6 +196,19 @@ public class ChunkRenderInfo {
 	 * See also the comments for {@link #brightnessCache}.
 	 */
 	int cachedBrightness(BlockPos pos, BlockState state) {
+		int index = gridIndex(pos);
+
+		if (index >= 0) {
+			int result = brightnessGrid[index];
+
+			if (result == Integer.MAX_VALUE) {
+				result = AoCalculator.getLightmapCoordinates(blockView, state, pos);
+				brightnessGrid[index] = result;
+			}
+
+			return result;
+		}
+
 		long key = pos.asLong();
 		int result = brightnessCache.get(key);
 
@@ -109,6 +221,19 @@ public class ChunkRenderInfo {
 	}
 
 	float cachedAoLevel(BlockPos pos, BlockState state) {
+		int index = gridIndex(pos);
+
+		if (index >= 0) {
+			float result = aoLevelGrid[index];
+
+			if (result == Float.MAX_VALUE) {
+				result = AoLuminanceFix.INSTANCE.apply(blockView, pos, state);
+				aoLevelGrid[index] = result;
+			}
+
+			return result;
+		}
+
 		long key = pos.asLong();
 		float result = aoLevelCache.get(key);
 
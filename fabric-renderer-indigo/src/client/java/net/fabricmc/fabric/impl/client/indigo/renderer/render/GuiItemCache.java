@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.client.indigo.renderer.render;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.item.ItemRenderState;
+import net.minecraft.client.render.model.BakedModel;
+
+import net.fabricmc.fabric.impl.client.indigo.renderer.mesh.MeshImpl;
+
+/**
+ * Keeps the quads of item models rendered in GUIs after they were transformed, tinted and shaded, so that
+ * following frames only have to transform their vertices with the matrix of the slot they are drawn in.
+ *
+ * <p>Entries are keyed by everything the processed quads depend on besides the model itself, and models that
+ * report {@linkplain net.fabricmc.fabric.api.renderer.v1.model.FabricBakedModel#hasDynamicItemQuads() dynamic item quads} are never cached. The cache is cleared when
+ * models are reloaded.
+ */
+public final class GuiItemCache {
+	private static final int MAX_ENTRIES = 1024;
+	private static final Map<Key, MeshImpl> ENTRIES = Collections.synchronizedMap(new LinkedHashMap<>(MAX_ENTRIES, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, MeshImpl> eldest) {
+			return size() > MAX_ENTRIES;
+		}
+	});
+
+	private GuiItemCache() {
+	}
+
+	@Nullable
+	static MeshImpl get(Key key) {
+		return ENTRIES.get(key);
+	}
+
+	static void put(Key key, MeshImpl quads) {
+		ENTRIES.put(key, quads);
+	}
+
+	public static void clear() {
+		ENTRIES.clear();
+	}
+
+	static final class Key {
+		private final BakedModel model;
+		private final int[] tints;
+		private final RenderLayer layer;
+		private final ItemRenderState.Glint glint;
+		private final int lightmap;
+		private final int overlay;
+		private final int hash;
+
+		Key(BakedModel model, int[] tints, RenderLayer layer, ItemRenderState.Glint glint, int lightmap, int overlay) {
+			this.model = model;
+			this.tints = tints.clone();
+			this.layer = layer;
+			this.glint = glint;
+			this.lightmap = lightmap;
+			this.overlay = overlay;
+
+			int hash = System.identityHashCode(model);
+			hash = 31 * hash + Arrays.hashCode(tints);
+			hash = 31 * hash + layer.hashCode();
+			hash = 31 * hash + glint.hashCode();
+			hash = 31 * hash + lightmap;
+			this.hash = 31 * hash + overlay;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Key other)) {
+				return false;
+			}
+
+			return model == other.model && layer == other.layer && glint == other.glint && lightmap == other.lightmap
+					&& overlay == other.overlay && Arrays.equals(tints, other.tints);
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
@@ -19,6 +19,8 @@ package net.fabricmc.fabric.impl.client.indigo.renderer.render;
 import java.util.Arrays;
 import java.util.function.Supplier;
 
+import org.jetbrains.annotations.Nullable;
+
 import net.minecraft.client.render.LightmapTextureManager;
 import net.minecraft.client.render.RenderLayer;
 import net.minecraft.client.render.TexturedRenderLayers;
@@ -35,7 +37,11 @@ import net.minecraft.util.math.random.Random;
 import net.fabricmc.fabric.api.renderer.v1.material.BlendMode;
 import net.fabricmc.fabric.api.renderer.v1.material.GlintMode;
 import net.fabricmc.fabric.api.renderer.v1.material.RenderMaterial;
+import net.fabricmc.fabric.impl.client.indigo.Indigo;
 import net.fabricmc.fabric.impl.client.indigo.renderer.helper.ColorHelper;
+import net.fabricmc.fabric.impl.client.indigo.renderer.mesh.EncodingFormat;
+import net.fabricmc.fabric.impl.client.indigo.renderer.mesh.MeshImpl;
+import net.fabricmc.fabric.impl.client.indigo.renderer.mesh.MutableMeshImpl;
 import net.fabricmc.fabric.impl.client.indigo.renderer.mesh.MutableQuadViewImpl;
 import net.fabricmc.fabric.mixin.client.indigo.renderer.ItemRendererAccessor;
 
@@ -65,6 +71,24 @@ public class ItemRenderContext extends AbstractRenderContext {
 	private MatrixStack.Entry specialGlintEntry;
 	private final VertexConsumer[] vertexConsumerCache = new VertexConsumer[3 * GLINT_COUNT];
 
+	/** Receives the processed quads of GUI items while they are recorded for {@link GuiItemCache}. */
+	@Nullable
+	private MutableMeshImpl recordingMesh;
+	private boolean recording;
+	/** Buffers quads from {@link GuiItemCache}, which are already tinted and shaded. */
+	private final MutableQuadViewImpl replayQuad = new MutableQuadViewImpl() {
+		{
+			data = new int[EncodingFormat.TOTAL_STRIDE];
+			clear();
+		}
+
+		@Override
+		protected void emitDirectly() {
+			final RenderMaterial mat = material();
+			bufferQuad(this, getVertexConsumer(mat.blendMode(), mat.glintMode()));
+		}
+	};
+
 	public void render(ModelTransformationMode transformationMode, MatrixStack matrixStack, VertexConsumerProvider vertexConsumerProvider, int lightmap, int overlay, int[] tints, BakedModel model, RenderLayer layer, ItemRenderState.Glint glint) {
 		this.transformMode = transformationMode;
 		this.matrixStack = matrixStack;
@@ -79,7 +103,11 @@ public class ItemRenderContext extends AbstractRenderContext {
 		matrix = matrixStack.peek().getPositionMatrix();
 		normalMatrix = matrixStack.peek().getNormalMatrix();
 
-		model.emitItemQuads(getEmitter(), randomSupplier);
+		if (Indigo.CACHE_GUI_ITEMS && transformationMode == ModelTransformationMode.GUI && !model.hasDynamicItemQuads()) {
+			renderCached(model, tints, layer, glint);
+		} else {
+			emitItemQuads(model);
+		}
 
 		this.matrixStack = null;
 		this.vertexConsumerProvider = null;
@@ -89,8 +117,48 @@ public class ItemRenderContext extends AbstractRenderContext {
 		Arrays.fill(vertexConsumerCache, null);
 	}
 
+	private void renderCached(BakedModel model, int[] tints, RenderLayer layer, ItemRenderState.Glint glint) {
+		final GuiItemCache.Key key = new GuiItemCache.Key(model, tints, layer, glint, lightmap, overlay);
+		final MeshImpl cached = GuiItemCache.get(key);
+
+		if (cached != null) {
+			cached.outputTo(replayQuad);
+			return;
+		}
+
+		if (recordingMesh == null) {
+			recordingMesh = new MutableMeshImpl();
+		}
+
+		recording = true;
+
+		try {
+			emitItemQuads(model);
+			GuiItemCache.put(key, (MeshImpl) recordingMesh.immutableCopy());
+		} finally {
+			recording = false;
+			recordingMesh.clear();
+		}
+	}
+
+	private void emitItemQuads(BakedModel model) {
+		if (profiler != null) {
+			profiler.begin();
+		}
+
+		model.emitItemQuads(getEmitter(), randomSupplier);
+
+		if (profiler != null) {
+			profiler.end(null, model);
+		}
+	}
+
 	@Override
 	protected void bufferQuad(MutableQuadViewImpl quad) {
+		if (profiler != null) {
+			profiler.emittedQuads++;
+		}
+
 		final RenderMaterial mat = quad.material();
 		final boolean emissive = mat.emissive();
 		final VertexConsumer vertexConsumer = getVertexConsumer(mat.blendMode(), mat.glintMode());
@@ -98,6 +166,10 @@ public class ItemRenderContext extends AbstractRenderContext {
 		tintQuad(quad);
 		shadeQuad(quad, emissive);
 		bufferQuad(quad, vertexConsumer);
+
+		if (recording) {
+			recordingMesh.emitter().copyFrom(quad).emit();
+		}
 	}
 
 	private void tintQuad(MutableQuadViewImpl quad) {
@@ -0,0 +1,190 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.client.indigo.renderer.render;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.block.Block;
+import net.minecraft.registry.Registries;
+
+import net.fabricmc.fabric.impl.client.indigo.Indigo;
+
+/**
+ * Measures the time spent in {@code emitBlockQuads} and {@code emitItemQuads} and the quads they output,
+ * per block and model class, when the {@code profile-models} Indigo property is enabled.
+ *
+ * <p>Each render context owns an instance which counts the quads of the model being emitted, the totals are then
+ * added to counters shared by all chunk builder threads. Results can be read with {@link #getResults()}, they are
+ * summarized on the debug screen and logged when models are reloaded.
+ *
+ * <p>Like the rest of Indigo, this is not API and may change without notice.
+ */
+public final class ModelProfiler {
+	private static final Map<Key, Stats> STATS = new ConcurrentHashMap<>();
+
+	int emittedQuads;
+	int culledQuads;
+	int smoothLitQuads;
+	private long startTime;
+	@Nullable
+	private Key lastKey;
+	@Nullable
+	private Stats lastStats;
+
+	void begin() {
+		emittedQuads = 0;
+		culledQuads = 0;
+		smoothLitQuads = 0;
+		startTime = System.nanoTime();
+	}
+
+	/**
+	 * @param block the block being rendered, or {@code null} for items
+	 */
+	void end(@Nullable Block block, Object model) {
+		final long time = System.nanoTime() - startTime;
+		Stats stats = lastStats;
+
+		// Consecutive blocks often use the same block and model, avoid the map lookup for them
+		if (lastKey == null || lastKey.block != block || lastKey.modelClass != model.getClass()) {
+			lastKey = new Key(block, model.getClass());
+			stats = STATS.computeIfAbsent(lastKey, k -> new Stats());
+			lastStats = stats;
+		}
+
+		stats.calls.increment();
+		stats.nanos.add(time);
+		stats.emittedQuads.add(emittedQuads);
+		stats.culledQuads.add(culledQuads);
+		stats.smoothLitQuads.add(smoothLitQuads);
+	}
+
+	/**
+	 * @return the results per block and model class since the last reset, slowest first
+	 */
+	public static List<Result> getResults() {
+		List<Result> results = new ArrayList<>(STATS.size());
+
+		STATS.forEach((key, stats) -> {
+			final long calls = stats.calls.sum();
+
+			if (calls != 0) {
+				results.add(new Result(key.block, key.modelClass, calls, stats.nanos.sum(), stats.emittedQuads.sum(),
+						stats.culledQuads.sum(), stats.smoothLitQuads.sum()));
+			}
+		});
+
+		results.sort(Comparator.comparingLong(Result::nanos).reversed());
+		return results;
+	}
+
+	/**
+	 * @return the results merged per model class since the last reset, slowest first
+	 */
+	public static List<Result> getResultsByModelClass() {
+		Map<Class<?>, Result> merged = new HashMap<>();
+
+		for (Result result : getResults()) {
+			merged.merge(result.modelClass(), new Result(null, result.modelClass(), result.calls(), result.nanos(), result.emittedQuads(),
+					result.culledQuads(), result.smoothLitQuads()), Result::add);
+		}
+
+		List<Result> results = new ArrayList<>(merged.values());
+		results.sort(Comparator.comparingLong(Result::nanos).reversed());
+		return results;
+	}
+
+	/**
+	 * Clears the results. Counters are reset in place, because contexts keep references to them.
+	 */
+	public static void reset() {
+		STATS.values().forEach(Stats::reset);
+	}
+
+	/**
+	 * Logs the results per model class and resets them.
+	 */
+	public static void logAndReset() {
+		List<Result> results = getResultsByModelClass();
+
+		if (results.isEmpty()) {
+			return;
+		}
+
+		StringBuilder report = new StringBuilder("[Indigo] Model emission profile, slowest model classes first:");
+
+		for (Result result : results) {
+			report.append("\n\t").append(result);
+		}
+
+		Indigo.LOGGER.info(report.toString());
+		reset();
+	}
+
+	private record Key(@Nullable Block block, Class<?> modelClass) {
+	}
+
+	private static class Stats {
+		final LongAdder calls = new LongAdder();
+		final LongAdder nanos = new LongAdder();
+		final LongAdder emittedQuads = new LongAdder();
+		final LongAdder culledQuads = new LongAdder();
+		final LongAdder smoothLitQuads = new LongAdder();
+
+		void reset() {
+			calls.reset();
+			nanos.reset();
+			emittedQuads.reset();
+			culledQuads.reset();
+			smoothLitQuads.reset();
+		}
+	}
+
+	/**
+	 * @param block the block, or {@code null} for items and results merged per model class
+	 * @param calls number of times the model was emitted
+	 * @param nanos total time spent emitting, including Indigo's own lighting and buffering of the quads
+	 * @param emittedQuads quads output by the model, after transforms
+	 * @param culledQuads emitted quads that were discarded because of their cull face
+	 * @param smoothLitQuads buffered quads that were lit with ambient occlusion
+	 */
+	public record Result(@Nullable Block block, Class<?> modelClass, long calls, long nanos, long emittedQuads, long culledQuads, long smoothLitQuads) {
+		Result add(Result other) {
+			return new Result(block, modelClass, calls + other.calls, nanos + other.nanos, emittedQuads + other.emittedQuads,
+					culledQuads + other.culledQuads, smoothLitQuads + other.smoothLitQuads);
+		}
+
+		public double microsPerCall() {
+			return calls == 0 ? 0 : nanos / 1000.0 / calls;
+		}
+
+		@Override
+		public String toString() {
+			String name = block == null ? modelClass.getName() : Registries.BLOCK.getId(block) + " " + modelClass.getName();
+			return String.format("%s: %d calls, %.2f us/call, %d quads, %d culled, %d smooth lit", name, calls, microsPerCall(),
+					emittedQuads, culledQuads, smoothLitQuads);
+		}
+	}
+}
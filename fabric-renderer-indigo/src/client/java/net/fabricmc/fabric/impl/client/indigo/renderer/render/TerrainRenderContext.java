@@ -18,6 +18,8 @@ package net.fabricmc.fabric.impl.client.indigo.renderer.render;
 
 import java.util.function.Function;
 
+import org.jetbrains.annotations.Nullable;
+
 import net.minecraft.block.BlockState;
 import net.minecraft.client.render.BufferBuilder;
 import net.minecraft.client.render.OverlayTexture;
@@ -30,10 +32,13 @@ import net.minecraft.util.crash.CrashException;
 import net.minecraft.util.crash.CrashReport;
 import net.minecraft.util.crash.CrashReportSection;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.util.math.random.Random;
 
+import net.fabricmc.fabric.impl.client.indigo.Indigo;
 import net.fabricmc.fabric.impl.client.indigo.renderer.aocalc.AoCalculator;
+import net.fabricmc.fabric.impl.client.indigo.renderer.mesh.MutableQuadViewImpl;
 
 /**
  * Used during terrain block buffering to invoke {@link BakedModel#emitBlockQuads}.
@@ -42,6 +47,8 @@ public class TerrainRenderContext extends AbstractBlockRenderContext {
 	public static final ThreadLocal<TerrainRenderContext> POOL = ThreadLocal.withInitial(TerrainRenderContext::new);
 
 	private final ChunkRenderInfo chunkInfo = new ChunkRenderInfo();
+	@Nullable
+	private final BlockOutputCache outputCache = Indigo.CACHE_BLOCK_OUTPUT ? new BlockOutputCache() : null;
 
 	public TerrainRenderContext() {
 		overlay = OverlayTexture.DEFAULT_UV;
@@ -65,15 +72,40 @@ public class TerrainRenderContext extends AbstractBlockRenderContext {
 
 	@Override
 	protected VertexConsumer getVertexConsumer(RenderLayer layer) {
+		if (outputCache != null && outputCache.isRecording()) {
+			return outputCache.recorder(layer);
+		}
+
 		return chunkInfo.getBuffer(layer);
 	}
 
+	@Override
+	protected void bufferQuad(MutableQuadViewImpl quad) {
+		if (outputCache != null && outputCache.isRecording() && !blockInfo.shouldCullSide(quad.cullFace())) {
+			outputCache.recordTint(quad.tintIndex());
+		}
+
+		super.bufferQuad(quad);
+	}
+
 	public void prepare(ChunkRendererRegion blockView, Function<RenderLayer, BufferBuilder> bufferFunc) {
-		chunkInfo.prepare(blockView, bufferFunc);
+		prepare(blockView, null, bufferFunc);
+	}
+
+	public void prepare(ChunkRendererRegion blockView, @Nullable ChunkSectionPos sectionPos, Function<RenderLayer, BufferBuilder> bufferFunc) {
+		chunkInfo.prepare(blockView, sectionPos, bufferFunc);
 		blockInfo.prepareForWorld(blockView, true);
+
+		if (outputCache != null && sectionPos != null) {
+			outputCache.prepare(sectionPos);
+		}
 	}
 
 	public void release() {
+		if (outputCache != null) {
+			outputCache.release();
+		}
+
 		chunkInfo.release();
 		blockInfo.release();
 	}
@@ -91,7 +123,21 @@ public class TerrainRenderContext extends AbstractBlockRenderContext {
 
 			aoCalc.clear();
 			blockInfo.prepareForBlock(blockState, blockPos, model.useAmbientOcclusion());
-			model.emitBlockQuads(getEmitter(), blockInfo.blockView, blockInfo.blockState, blockInfo.blockPos, blockInfo.randomSupplier, blockInfo::shouldCullSide);
+
+			if (outputCache != null && outputCache.isActive() && BlockOutputCache.isCacheable(blockState, model)) {
+				final long key = outputCache.computeKey(blockInfo, chunkInfo);
+
+				if (outputCache.tryReplay(blockInfo, model, chunkInfo, key)) {
+					return;
+				}
+
+				outputCache.startRecording(blockInfo, model, key);
+				emitBlockQuads(model);
+				outputCache.finishRecording(blockInfo, chunkInfo);
+				return;
+			}
+
+			emitBlockQuads(model);
 		} catch (Throwable throwable) {
 			CrashReport crashReport = CrashReport.create(throwable, "Tessellating block in world - Indigo Renderer");
 			CrashReportSection crashReportSection = crashReport.addElement("Block being tessellated");
@@ -99,4 +145,16 @@ public class TerrainRenderContext extends AbstractBlockRenderContext {
 			throw new CrashException(crashReport);
 		}
 	}
+
+	private void emitBlockQuads(BakedModel model) {
+		if (profiler != null) {
+			profiler.begin();
+		}
+
+		model.emitBlockQuads(getEmitter(), blockInfo.blockView, blockInfo.blockState, blockInfo.blockPos, blockInfo.randomSupplier, blockInfo::shouldCullSide);
+
+		if (profiler != null) {
+			profiler.end(blockInfo.blockState.getBlock(), model);
+		}
+	}
 }
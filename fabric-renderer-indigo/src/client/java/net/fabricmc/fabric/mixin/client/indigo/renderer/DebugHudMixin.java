@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.mixin.client.indigo.renderer;
+
+import java.util.List;
+
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+
+import net.minecraft.client.gui.hud.DebugHud;
+
+import net.fabricmc.fabric.impl.client.indigo.Indigo;
+import net.fabricmc.fabric.impl.client.indigo.renderer.render.BlockOutputCache;
+import net.fabricmc.fabric.impl.client.indigo.renderer.render.ModelProfiler;
+
+@Mixin(DebugHud.class)
+abstract class DebugHudMixin {
+	@Inject(method = "getLeftText", at = @At("RETURN"))
+	private void addBlockOutputCacheStats(CallbackInfoReturnable<List<String>> cir) {
+		if (Indigo.CACHE_BLOCK_OUTPUT) {
+			cir.getReturnValue().add(BlockOutputCache.getDebugString());
+		}
+	}
+
+	@Inject(method = "getLeftText", at = @At("RETURN"))
+	private void addModelProfile(CallbackInfoReturnable<List<String>> cir) {
+		if (Indigo.PROFILE_MODELS) {
+			List<String> lines = cir.getReturnValue();
+			List<ModelProfiler.Result> results = ModelProfiler.getResultsByModelClass();
+			lines.add("Indigo model profile (logged and reset on model reload):");
+
+			for (int i = 0; i < Math.min(5, results.size()); i++) {
+				ModelProfiler.Result result = results.get(i);
+				// Not the simple name, which is empty for anonymous classes
+				String className = result.modelClass().getName();
+				className = className.substring(className.lastIndexOf('.') + 1);
+				lines.add(String.format("%s: %d ms, %.1f us/call, %d quads", className, result.nanos() / 1_000_000,
+						result.microsPerCall(), result.emittedQuads()));
+			}
+		}
+	}
+}
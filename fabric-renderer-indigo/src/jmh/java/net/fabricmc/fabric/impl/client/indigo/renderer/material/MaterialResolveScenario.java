@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.client.indigo.renderer.material;
+
+import java.util.List;
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+import net.minecraft.client.render.RenderLayer;
+
+import net.fabricmc.fabric.api.renderer.v1.material.BlendMode;
+import net.fabricmc.fabric.api.renderer.v1.material.ShadeMode;
+import net.fabricmc.fabric.api.util.TriState;
+
+/**
+ * Resolves the render layer, ambient occlusion, emissive and shade properties of random materials, for blocks with
+ * random default layers and AO settings, either by decoding each material or with {@link MaterialTable}.
+ */
+public class MaterialResolveScenario implements IntSupplier {
+	private static final int QUADS = 4096;
+	private static final int QUADS_PER_BLOCK = 16;
+
+	private final boolean table;
+	private final int[] materialIndices = new int[QUADS];
+	private final RenderLayer[] defaultLayers = new RenderLayer[QUADS / QUADS_PER_BLOCK];
+	private final boolean[] useAo = new boolean[QUADS / QUADS_PER_BLOCK];
+	private final boolean[] defaultAo = new boolean[QUADS / QUADS_PER_BLOCK];
+
+	public MaterialResolveScenario(String mode) {
+		table = mode.equals("TABLE");
+		final Random random = new Random(0);
+		final List<RenderLayer> blockLayers = RenderLayer.getBlockLayers();
+
+		for (int i = 0; i < QUADS; i++) {
+			int index;
+
+			do {
+				index = random.nextInt(RenderMaterialImpl.VALUE_COUNT);
+			} while (RenderMaterialImpl.byIndex(index) == null);
+
+			materialIndices[i] = index;
+		}
+
+		for (int i = 0; i < defaultLayers.length; i++) {
+			defaultLayers[i] = blockLayers.get(random.nextInt(blockLayers.size()));
+			useAo[i] = random.nextBoolean();
+			defaultAo[i] = useAo[i] && random.nextBoolean();
+		}
+	}
+
+	@Override
+	public int getAsInt() {
+		int checksum = 0;
+
+		for (int block = 0; block < defaultLayers.length; block++) {
+			final int start = block * QUADS_PER_BLOCK;
+
+			if (table) {
+				final RenderLayer[] layers = MaterialTable.layers(defaultLayers[block]);
+				final int aoFlags = MaterialTable.aoFlags(useAo[block], defaultAo[block]);
+
+				for (int i = start; i < start + QUADS_PER_BLOCK; i++) {
+					final int flags = MaterialTable.flags(materialIndices[i]);
+					checksum += checksum(layers[materialIndices[i]], (flags & aoFlags) != 0,
+							(flags & MaterialTable.EMISSIVE) != 0, (flags & MaterialTable.VANILLA_SHADE) != 0);
+				}
+			} else {
+				for (int i = start; i < start + QUADS_PER_BLOCK; i++) {
+					// Same as the quad pipeline before the table was introduced
+					final RenderMaterialImpl mat = RenderMaterialImpl.byIndex(materialIndices[i]);
+					final TriState aoMode = mat.ambientOcclusion();
+					final boolean ao = useAo[block] && (aoMode == TriState.TRUE || (aoMode == TriState.DEFAULT && defaultAo[block]));
+					final BlendMode blendMode = mat.blendMode();
+					final RenderLayer layer = blendMode == BlendMode.DEFAULT ? defaultLayers[block] : blendMode.blockRenderLayer;
+					checksum += checksum(layer, ao, mat.emissive(), mat.shadeMode() == ShadeMode.VANILLA);
+				}
+			}
+		}
+
+		return checksum;
+	}
+
+	private static int checksum(RenderLayer layer, boolean ao, boolean emissive, boolean vanillaShade) {
+		return System.identityHashCode(layer) + (ao ? 1 : 0) + (emissive ? 2 : 0) + (vanillaShade ? 4 : 0);
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.client.indigo.renderer.render;
+
+import org.jetbrains.annotations.Nullable;
+
+import net.minecraft.Bootstrap;
+import net.minecraft.SharedConstants;
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.block.entity.BlockEntity;
+import net.minecraft.fluid.FluidState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.world.BlockRenderView;
+import net.minecraft.world.LightType;
+import net.minecraft.world.biome.ColorResolver;
+import net.minecraft.world.chunk.light.LightingProvider;
+
+/**
+ * A fake world for benchmarks: solid ground below y = 0, blocks scattered up to {@link #SURFACE_Y}, and air above.
+ * Light levels are computed from the position, without a lighting provider.
+ */
+public final class BenchmarkBlockView implements BlockRenderView {
+	static final int SURFACE_Y = 8;
+	private static boolean bootstrapped;
+
+	private final BlockState solid = Blocks.STONE.getDefaultState();
+	private final BlockState air = Blocks.AIR.getDefaultState();
+
+	static synchronized void bootstrap() {
+		if (!bootstrapped) {
+			SharedConstants.createGameVersion();
+			Bootstrap.initialize();
+			bootstrapped = true;
+		}
+	}
+
+	@Override
+	public BlockState getBlockState(BlockPos pos) {
+		final int y = pos.getY();
+
+		if (y < 0) {
+			return solid;
+		} else if (y >= SURFACE_Y) {
+			return air;
+		}
+
+		// Deterministic scatter, so that most blocks have both solid and open neighbors
+		final int hash = (pos.getX() * 73428767) ^ (y * 912931) ^ (pos.getZ() * 42317861);
+		return (hash & 3) != 0 ? solid : air;
+	}
+
+	@Override
+	public FluidState getFluidState(BlockPos pos) {
+		return getBlockState(pos).getFluidState();
+	}
+
+	@Override
+	@Nullable
+	public BlockEntity getBlockEntity(BlockPos pos) {
+		return null;
+	}
+
+	@Override
+	public int getLightLevel(LightType type, BlockPos pos) {
+		if (type == LightType.SKY) {
+			return Math.max(0, 15 - Math.max(0, SURFACE_Y - pos.getY()) * 2);
+		}
+
+		return (pos.getX() * 7 + pos.getY() * 3 + pos.getZ() * 5) & 7;
+	}
+
+	@Override
+	public float getBrightness(Direction direction, boolean shaded) {
+		if (!shaded) {
+			return 1.0f;
+		}
+
+		return switch (direction) {
+		case DOWN -> 0.5f;
+		case UP -> 1.0f;
+		case NORTH, SOUTH -> 0.8f;
+		case WEST, EAST -> 0.6f;
+		};
+	}
+
+	@Override
+	public LightingProvider getLightingProvider() {
+		throw new UnsupportedOperationException("Light levels are provided by getLightLevel");
+	}
+
+	@Override
+	public int getColor(BlockPos pos, ColorResolver colorResolver) {
+		return -1;
+	}
+
+	@Override
+	public int getHeight() {
+		return 384;
+	}
+
+	@Override
+	public int getBottomY() {
+		return -64;
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.client.indigo.renderer.render;
+
+import java.util.function.IntSupplier;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Direction;
+
+import net.fabricmc.fabric.impl.client.indigo.renderer.aocalc.LightCacheConfig;
+
+/**
+ * Replays the brightness and AO level lookups that smooth lighting makes for the faces of a section:
+ * for every face, the block in front of it and its eight neighbors in the plane of the face.
+ */
+public class LightCacheScenario implements IntSupplier {
+	static {
+		BenchmarkBlockView.bootstrap();
+	}
+
+	private final BenchmarkBlockView blockView = new BenchmarkBlockView();
+	private final ChunkRenderInfo chunkInfo;
+	private final ChunkSectionPos sectionPos = ChunkSectionPos.from(0, 0, 0);
+	private final int minY;
+	private final int maxY;
+	private final BlockPos.Mutable lightPos = new BlockPos.Mutable();
+	private final BlockPos.Mutable searchPos = new BlockPos.Mutable();
+
+	public LightCacheScenario(String mode, String section) {
+		chunkInfo = new ChunkRenderInfo(LightCacheConfig.valueOf(mode));
+
+		if (section.equals("SURFACE")) {
+			minY = BenchmarkBlockView.SURFACE_Y - 1;
+			maxY = BenchmarkBlockView.SURFACE_Y - 1;
+		} else {
+			minY = 0;
+			maxY = 15;
+		}
+	}
+
+	@Override
+	public int getAsInt() {
+		chunkInfo.prepare(blockView, sectionPos, null);
+		int checksum = 0;
+
+		for (int y = minY; y <= maxY; y++) {
+			for (int z = 0; z < 16; z++) {
+				for (int x = 0; x < 16; x++) {
+					for (Direction face : Direction.values()) {
+						lightPos.set(x, y, z).move(face);
+						checksum += lookupFace(face);
+					}
+				}
+			}
+		}
+
+		chunkInfo.release();
+		return checksum;
+	}
+
+	private int lookupFace(Direction face) {
+		// The two axes of the plane of the face
+		final Direction first = face.getAxis() == Direction.Axis.X ? Direction.UP : Direction.EAST;
+		final Direction second = face.getAxis() == Direction.Axis.Z ? Direction.UP : Direction.SOUTH;
+		int checksum = 0;
+
+		for (int i = -1; i <= 1; i++) {
+			for (int j = -1; j <= 1; j++) {
+				searchPos.set(lightPos).move(first, i).move(second, j);
+				BlockState state = blockView.getBlockState(searchPos);
+				checksum += chunkInfo.cachedBrightness(searchPos, state);
+				checksum += Float.floatToRawIntBits(chunkInfo.cachedAoLevel(searchPos, state));
+			}
+		}
+
+		return checksum;
+	}
+}
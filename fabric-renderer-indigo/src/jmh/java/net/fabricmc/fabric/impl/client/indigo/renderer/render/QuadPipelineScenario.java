@@ -0,0 +1,283 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.client.indigo.renderer.render;
+
+import java.util.function.IntSupplier;
+
+import org.jetbrains.annotations.Nullable;
+import org.joml.Matrix3f;
+import org.joml.Matrix3x2f;
+import org.joml.Matrix4f;
+
+import net.minecraft.block.BlockState;
+import net.minecraft.block.Blocks;
+import net.minecraft.client.color.block.BlockColors;
+import net.minecraft.client.render.OverlayTexture;
+import net.minecraft.client.render.RenderLayer;
+import net.minecraft.client.render.VertexConsumer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkSectionPos;
+import net.minecraft.util.math.Direction;
+import net.minecraft.util.math.random.Random;
+
+import net.fabricmc.fabric.api.renderer.v1.material.RenderMaterial;
+import net.fabricmc.fabric.api.renderer.v1.mesh.AffineQuadTransform;
+import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
+import net.fabricmc.fabric.api.renderer.v1.mesh.MutableMesh;
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadEmitter;
+import net.fabricmc.fabric.api.renderer.v1.mesh.QuadTransform;
+import net.fabricmc.fabric.api.util.TriState;
+import net.fabricmc.fabric.impl.client.indigo.renderer.IndigoRenderer;
+import net.fabricmc.fabric.impl.client.indigo.renderer.aocalc.AoCalculator;
+import net.fabricmc.fabric.impl.client.indigo.renderer.aocalc.LightCacheConfig;
+
+/**
+ * Renders one block the same way {@link TerrainRenderContext} does, into a vertex consumer that only computes
+ * a checksum of its input. Light values are cached as in terrain rendering, so after the first iteration
+ * the benchmark measures the quad pipeline rather than light lookups.
+ */
+public class QuadPipelineScenario extends AbstractBlockRenderContext implements IntSupplier {
+	static {
+		BenchmarkBlockView.bootstrap();
+	}
+
+	private static final QuadTransform[] TRANSFORMS = {
+			quad -> {
+				for (int i = 0; i < 4; i++) {
+					quad.color(i, quad.color(i) & 0xFFF0F0F0);
+				}
+
+				return true;
+			},
+			quad -> {
+				for (int i = 0; i < 4; i++) {
+					quad.uv(i, quad.u(i) * 0.5f, quad.v(i) * 0.5f);
+				}
+
+				return true;
+			},
+			quad -> {
+				for (int i = 0; i < 4; i++) {
+					quad.pos(i, quad.x(i), quad.y(i) * 0.99f, quad.z(i));
+				}
+
+				return true;
+			},
+			quad -> {
+				// Quarter turn around the vertical axis through the center of the block
+				for (int i = 0; i < 4; i++) {
+					quad.pos(i, 1 - quad.z(i), quad.y(i), quad.x(i));
+				}
+
+				return true;
+			}
+	};
+
+	/**
+	 * Counterparts of {@link #TRANSFORMS} declared as affine transforms, which the emitter can fuse.
+	 * The color transform multiplies instead of masking.
+	 */
+	private static final QuadTransform[] AFFINE_TRANSFORMS = {
+			AffineQuadTransform.color(0xFFF0F0F0),
+			AffineQuadTransform.uv(new Matrix3x2f().scaling(0.5f)),
+			AffineQuadTransform.position(new Matrix4f().scaling(1, 0.99f, 1)),
+			AffineQuadTransform.position(new Matrix4f().translation(0.5f, 0, 0.5f).rotateY((float) Math.PI / 2).translate(-0.5f, 0, -0.5f))
+	};
+
+	private final BenchmarkBlockView blockView = new BenchmarkBlockView();
+	private final ChunkRenderInfo chunkInfo = new ChunkRenderInfo(LightCacheConfig.GRID);
+	private final ChecksumVertexConsumer vertexConsumer = new ChecksumVertexConsumer();
+	private final BlockPos blockPos = new BlockPos(8, BenchmarkBlockView.SURFACE_Y - 1, 8);
+	private final BlockState blockState = Blocks.STONE.getDefaultState();
+	private final String shape;
+	private final RenderMaterial material;
+	private final QuadTransform[] transformList;
+	private final int transforms;
+	@Nullable
+	private final Mesh mesh;
+
+	public QuadPipelineScenario(String shape, String material, int transforms, String emission) {
+		this(shape, material, transforms, emission, false);
+	}
+
+	public QuadPipelineScenario(String shape, String material, int transforms, String emission, boolean culling) {
+		this(shape, material, transforms, emission, culling, false);
+	}
+
+	public QuadPipelineScenario(String shape, String material, int transforms, String emission, boolean culling, boolean affine) {
+		super(new BlockRenderInfo(new BlockColors()));
+		this.shape = shape;
+		this.material = switch (material) {
+		case "EMISSIVE" -> IndigoRenderer.INSTANCE.materialFinder().emissive(true).find();
+		case "FLAT" -> IndigoRenderer.INSTANCE.materialFinder().ambientOcclusion(TriState.FALSE).find();
+		default -> IndigoRenderer.STANDARD_MATERIAL;
+		};
+		this.transforms = transforms;
+		transformList = affine ? AFFINE_TRANSFORMS : TRANSFORMS;
+
+		if (emission.equals("MESH")) {
+			MutableMesh mutableMesh = IndigoRenderer.INSTANCE.mutableMesh();
+			emitShape(mutableMesh.emitter());
+			mesh = mutableMesh.immutableCopy();
+		} else {
+			mesh = null;
+		}
+
+		matrix = new Matrix4f();
+		normalMatrix = new Matrix3f();
+		overlay = OverlayTexture.DEFAULT_UV;
+		blockInfo.random = Random.create();
+
+		chunkInfo.prepare(blockView, ChunkSectionPos.from(blockPos), null);
+		// Unless culling is enabled, all faces are rendered. Otherwise only the top face is, the block is below the surface.
+		blockInfo.prepareForWorld(blockView, culling);
+	}
+
+	@Override
+	protected AoCalculator createAoCalc(BlockRenderInfo blockInfo) {
+		return new AoCalculator(blockInfo) {
+			@Override
+			public int light(BlockPos pos, BlockState state) {
+				return chunkInfo.cachedBrightness(pos, state);
+			}
+
+			@Override
+			public float ao(BlockPos pos, BlockState state) {
+				return chunkInfo.cachedAoLevel(pos, state);
+			}
+		};
+	}
+
+	@Override
+	protected VertexConsumer getVertexConsumer(RenderLayer layer) {
+		return vertexConsumer;
+	}
+
+	@Override
+	public int getAsInt() {
+		blockInfo.recomputeSeed = true;
+		aoCalc.clear();
+		blockInfo.prepareForBlock(blockState, blockPos, true, true);
+
+		final QuadEmitter emitter = getEmitter();
+
+		for (int i = 0; i < transforms; i++) {
+			emitter.pushTransform(transformList[i % transformList.length]);
+		}
+
+		if (mesh != null) {
+			mesh.outputTo(emitter);
+		} else {
+			emitShape(emitter);
+		}
+
+		for (int i = 0; i < transforms; i++) {
+			emitter.popTransform();
+		}
+
+		return vertexConsumer.checksum;
+	}
+
+	private void emitShape(QuadEmitter emitter) {
+		switch (shape) {
+		case "PARTIAL" -> {
+			for (Direction face : Direction.values()) {
+				emitter.square(face, 0.25f, 0.25f, 0.75f, 0.75f, 0.25f);
+				finishQuad(emitter);
+			}
+		}
+		case "IRREGULAR" -> {
+			// Pyramid: four triangles, with the last vertex repeated, and a square base
+			emitter.pos(0, 0, 0, 0).pos(1, 0.5f, 1, 0.5f).pos(2, 1, 0, 0).pos(3, 1, 0, 0);
+			finishQuad(emitter);
+			emitter.pos(0, 1, 0, 1).pos(1, 0.5f, 1, 0.5f).pos(2, 0, 0, 1).pos(3, 0, 0, 1);
+			finishQuad(emitter);
+			emitter.pos(0, 0, 0, 1).pos(1, 0.5f, 1, 0.5f).pos(2, 0, 0, 0).pos(3, 0, 0, 0);
+			finishQuad(emitter);
+			emitter.pos(0, 1, 0, 0).pos(1, 0.5f, 1, 0.5f).pos(2, 1, 0, 1).pos(3, 1, 0, 1);
+			finishQuad(emitter);
+			emitter.square(Direction.DOWN, 0, 0, 1, 1, 0).cullFace(Direction.DOWN);
+			finishQuad(emitter);
+		}
+		case "LARGE" -> {
+			// Full block with each face split in 16x16 quads, like a detailed static model
+			for (Direction face : Direction.values()) {
+				for (int v = 0; v < 16; v++) {
+					for (int u = 0; u < 16; u++) {
+						emitter.square(face, u / 16f, v / 16f, (u + 1) / 16f, (v + 1) / 16f, 0).cullFace(face);
+						finishQuad(emitter);
+					}
+				}
+			}
+		}
+		default -> {
+			for (Direction face : Direction.values()) {
+				emitter.square(face, 0, 0, 1, 1, 0).cullFace(face);
+				finishQuad(emitter);
+			}
+		}
+		}
+	}
+
+	private void finishQuad(QuadEmitter emitter) {
+		emitter.material(material)
+				.tintIndex(0)
+				.color(0, -1).color(1, -1).color(2, -1).color(3, -1)
+				.uv(0, 0, 0).uv(1, 0, 1).uv(2, 1, 1).uv(3, 1, 0)
+				.emit();
+	}
+
+	private static class ChecksumVertexConsumer implements VertexConsumer {
+		private int checksum;
+
+		@Override
+		public VertexConsumer vertex(float x, float y, float z) {
+			checksum = 31 * checksum + Float.floatToRawIntBits(x + y + z);
+			return this;
+		}
+
+		@Override
+		public VertexConsumer color(int red, int green, int blue, int alpha) {
+			checksum += red ^ green ^ blue ^ alpha;
+			return this;
+		}
+
+		@Override
+		public VertexConsumer texture(float u, float v) {
+			checksum += Float.floatToRawIntBits(u + v);
+			return this;
+		}
+
+		@Override
+		public VertexConsumer overlay(int u, int v) {
+			checksum += u ^ v;
+			return this;
+		}
+
+		@Override
+		public VertexConsumer light(int u, int v) {
+			checksum += u ^ v;
+			return this;
+		}
+
+		@Override
+		public VertexConsumer normal(float x, float y, float z) {
+			checksum += Float.floatToRawIntBits(x + y + z);
+			return this;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.impl.renderer;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.IntSupplier;
+
+import net.minecraft.client.texture.Sprite;
+import net.minecraft.client.texture.SpriteContents;
+import net.minecraft.client.texture.SpriteDimensions;
+import net.minecraft.resource.metadata.ResourceMetadata;
+import net.minecraft.util.Identifier;
+
+/**
+ * Looks up sprites at the center of random quads of a synthetic atlas, packed in rows like the stitcher would.
+ */
+public class SpriteFinderScenario implements IntSupplier {
+	private static final int LOOKUPS = 4096;
+	private static final Identifier ATLAS_ID = Identifier.of("fabric", "benchmark");
+
+	private final SpriteFinderImpl spriteFinder;
+	private final float[] u = new float[LOOKUPS];
+	private final float[] v = new float[LOOKUPS];
+
+	public SpriteFinderScenario(String index, String atlas) {
+		final boolean large = atlas.equals("LARGE");
+		final int atlasSize = large ? 8192 : 1024;
+		final int[] spriteSizes = large ? new int[] {16, 16, 16, 32, 64, 256} : new int[] {16, 16, 16, 16, 32};
+		final Random random = new Random(0);
+		final Map<Identifier, Sprite> sprites = new HashMap<>();
+
+		// Place sprites of random sizes in rows as high as their first sprite, until the atlas is full
+		int rowY = 0;
+
+		while (rowY < atlasSize) {
+			final int rowHeight = spriteSizes[random.nextInt(spriteSizes.length)];
+
+			if (rowY + rowHeight > atlasSize) {
+				break;
+			}
+
+			int x = 0;
+
+			while (true) {
+				final int size = Math.min(rowHeight, spriteSizes[random.nextInt(spriteSizes.length)]);
+
+				if (x + size > atlasSize) {
+					break;
+				}
+
+				final Identifier id = Identifier.of("fabric", "sprite_" + sprites.size());
+				final SpriteContents contents = new SpriteContents(id, new SpriteDimensions(size, size), null, ResourceMetadata.NONE);
+				sprites.put(id, new Sprite(ATLAS_ID, contents, atlasSize, atlasSize, x, rowY) { });
+				x += size;
+			}
+
+			rowY += rowHeight;
+		}
+
+		final Sprite[] spriteArray = sprites.values().toArray(Sprite[]::new);
+
+		for (int i = 0; i < LOOKUPS; i++) {
+			final Sprite sprite = spriteArray[random.nextInt(spriteArray.length)];
+			u[i] = (sprite.getMinU() + sprite.getMaxU()) * 0.5f;
+			v[i] = (sprite.getMinV() + sprite.getMaxV()) * 0.5f;
+		}
+
+		// The atlas texture is only used to return the missing sprite, which the lookups never hit
+		spriteFinder = new SpriteFinderImpl(sprites, null, index.equals("GRID"));
+	}
+
+	@Override
+	public int getAsInt() {
+		int checksum = 0;
+
+		for (int i = 0; i < LOOKUPS; i++) {
+			checksum += spriteFinder.find(u[i], v[i]).getX();
+		}
+
+		return checksum;
+	}
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.test.renderer.indigo.jmh;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.IntSupplier;
+
+import net.fabricmc.api.EnvType;
+import net.fabricmc.loader.impl.launch.knot.Knot;
+
+/**
+ * Starts Fabric Loader in the benchmark JVM, the same way {@code fabric-loader-junit} does for unit tests, so that
+ * Minecraft and Indigo classes are loaded with their mixins and access wideners applied.
+ *
+ * <p>Benchmark classes are loaded by the application class loader, so they must not reference game classes.
+ * The measured code lives in scenario classes loaded through Knot, which are only accessed as {@link IntSupplier}s.
+ */
+final class KnotBenchmarkEnvironment {
+	private static final ClassLoader KNOT_CLASS_LOADER = createKnotClassLoader();
+
+	private KnotBenchmarkEnvironment() {
+	}
+
+	private static ClassLoader createKnotClassLoader() {
+		final Thread currentThread = Thread.currentThread();
+		final ClassLoader originalClassLoader = currentThread.getContextClassLoader();
+
+		try {
+			return new Knot(EnvType.CLIENT).init(new String[0]);
+		} finally {
+			currentThread.setContextClassLoader(originalClassLoader);
+		}
+	}
+
+	/**
+	 * Creates a scenario, each call of {@link IntSupplier#getAsInt()} runs one iteration and returns a checksum of its output.
+	 */
+	static IntSupplier createScenario(String className, Class<?>[] parameterTypes, Object... arguments) {
+		try {
+			Class<?> scenarioClass = Class.forName(className, true, KNOT_CLASS_LOADER);
+			return (IntSupplier) scenarioClass.getConstructor(parameterTypes).newInstance(arguments);
+		} catch (InvocationTargetException e) {
+			throw new RuntimeException("Failed to create benchmark scenario " + className, e.getCause());
+		} catch (ReflectiveOperationException e) {
+			throw new RuntimeException("Failed to create benchmark scenario " + className, e);
+		}
+	}
+}
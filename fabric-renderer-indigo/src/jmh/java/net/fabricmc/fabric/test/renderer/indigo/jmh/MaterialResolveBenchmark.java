@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.test.renderer.indigo.jmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares decoding material properties per quad to looking them up in {@code MaterialTable}, for 4096 quads.
+ * {@link QuadPipelineBenchmark} shows the effect on the whole pipeline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MaterialResolveBenchmark {
+	@Param({"DECODE", "TABLE"})
+	public String mode;
+
+	private IntSupplier scenario;
+
+	@Setup
+	public void setup() {
+		scenario = KnotBenchmarkEnvironment.createScenario(
+				"net.fabricmc.fabric.impl.client.indigo.renderer.material.MaterialResolveScenario",
+				new Class<?>[] {String.class},
+				mode
+		);
+	}
+
+	@Benchmark
+	public int resolveMaterials() {
+		return scenario.getAsInt();
+	}
+}
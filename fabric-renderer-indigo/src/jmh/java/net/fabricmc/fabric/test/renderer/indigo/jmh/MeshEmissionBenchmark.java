@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.test.renderer.indigo.jmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the output of prebuilt meshes, comparing the untransformed fast path to the transformed path,
+ * with and without culled faces.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MeshEmissionBenchmark {
+	/**
+	 * {@code CUBE}: a full block of 6 quads. {@code LARGE}: a full block of 1536 quads.
+	 */
+	@Param({"CUBE", "LARGE"})
+	public String shape;
+
+	/**
+	 * Number of quad transforms pushed to the emitter while the mesh is output.
+	 */
+	@Param({"0", "1"})
+	public int transforms;
+
+	/**
+	 * Whether faces are culled. When they are, only the top face of the block is visible.
+	 */
+	@Param({"false", "true"})
+	public boolean culling;
+
+	private IntSupplier scenario;
+
+	@Setup
+	public void setup() {
+		scenario = KnotBenchmarkEnvironment.createScenario(
+				"net.fabricmc.fabric.impl.client.indigo.renderer.render.QuadPipelineScenario",
+				new Class<?>[] {String.class, String.class, int.class, String.class, boolean.class},
+				shape, "STANDARD", transforms, "MESH", culling
+		);
+	}
+
+	@Benchmark
+	public int outputMesh() {
+		return scenario.getAsInt();
+	}
+}
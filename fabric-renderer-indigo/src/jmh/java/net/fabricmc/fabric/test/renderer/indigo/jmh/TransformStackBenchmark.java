@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2016, 2017, 2018, 2019 FabricMC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package net.fabricmc.fabric.test.renderer.indigo.jmh;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares stacks of lambda quad transforms, applied one after the other, to the equivalent affine transforms,
+ * which the emitter fuses into one. The transforms are pushed for every rendered block, as models do.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TransformStackBenchmark {
+	/**
+	 * Number of stacked transforms: color, UV, scale and rotation, in that order.
+	 */
+	@Param({"1", "2", "3", "4"})
+	public int transforms;
+
+	/**
+	 * {@code LAMBDA}: plain quad transforms. {@code AFFINE}: affine quad transforms.
+	 */
+	@Param({"LAMBDA", "AFFINE"})
+	public String kind;
+
+	/**
+	 * {@code CUBE}: a full block of 6 quads. {@code LARGE}: a full block of 1536 quads.
+	 */
+	@Param({"CUBE", "LARGE"})
+	public String shape;
+
+	private IntSupplier scenario;
+
+	@Setup
+	public void setup() {
+		scenario = KnotBenchmarkEnvironment.createScenario(
+				"net.fabricmc.fabric.impl.client.indigo.renderer.render.QuadPipelineScenario",
+				new Class<?>[] {String.class, String.class, int.class, String.class, boolean.class, boolean.class},
+				shape, "STANDARD", transforms, "MESH", false, kind.equals("AFFINE")
+		);
+	}
+
+	@Benchmark
+	public int renderBlock() {
+		return scenario.getAsInt();
+	}
+}
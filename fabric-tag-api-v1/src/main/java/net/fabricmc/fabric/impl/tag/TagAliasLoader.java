@@ -25,6 +25,8 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import com.google.gson.JsonElement;
 import com.google.gson.JsonParseException;
@@ -33,6 +35,11 @@ import com.mojang.serialization.Codec;
 import com.mojang.serialization.DataResult;
 import com.mojang.serialization.JsonOps;
 import com.mojang.serialization.Lifecycle;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,13 +52,12 @@ import net.minecraft.registry.tag.TagKey;
 import net.minecraft.resource.Resource;
 import net.minecraft.resource.ResourceFinder;
 import net.minecraft.resource.ResourceManager;
-import net.minecraft.resource.SinglePreparationResourceReloader;
 import net.minecraft.util.Identifier;
-import net.minecraft.util.profiler.Profiler;
+import net.minecraft.util.Util;
 
-import net.fabricmc.fabric.api.resource.IdentifiableResourceReloadListener;
+import net.fabricmc.fabric.api.resource.SimpleResourceReloadListener;
 
-public final class TagAliasLoader extends SinglePreparationResourceReloader<Map<RegistryKey<? extends Registry<?>>, List<TagAliasLoader.Data>>> implements IdentifiableResourceReloadListener {
+public final class TagAliasLoader implements SimpleResourceReloadListener<Map<RegistryKey<? extends Registry<?>>, List<TagAliasLoader.Data>>> {
 	public static final Identifier ID = Identifier.of("fabric-tag-api-v1", "tag_alias_groups");
 
 	private static final Logger LOGGER = LoggerFactory.getLogger("fabric-tag-api-v1");
@@ -66,40 +72,58 @@ public final class TagAliasLoader extends SinglePreparationResourceReloader<Map<
 		return ID;
 	}
 
-	@SuppressWarnings("unchecked")
 	@Override
-	protected Map<RegistryKey<? extends Registry<?>>, List<TagAliasLoader.Data>> prepare(ResourceManager manager, Profiler profiler) {
-		Map<RegistryKey<? extends Registry<?>>, List<TagAliasLoader.Data>> dataByRegistry = new HashMap<>();
-		Iterator<RegistryKey<? extends Registry<?>>> registryIterator = registries.streamAllRegistryKeys().iterator();
-
-		while (registryIterator.hasNext()) {
-			RegistryKey<? extends Registry<?>> registryKey = registryIterator.next();
-			ResourceFinder resourceFinder = ResourceFinder.json(getDirectory(registryKey));
-
-			for (Map.Entry<Identifier, Resource> entry : resourceFinder.findResources(manager).entrySet()) {
-				Identifier resourcePath = entry.getKey();
-				Identifier groupId = resourceFinder.toResourceId(resourcePath);
-
-				try (Reader reader = entry.getValue().getReader()) {
-					JsonElement json = JsonParser.parseReader(reader);
-					Codec<TagAliasGroup<Object>> codec = TagAliasGroup.codec((RegistryKey<? extends Registry<Object>>) registryKey);
-
-					switch (codec.parse(JsonOps.INSTANCE, json)) {
-					case DataResult.Success(TagAliasGroup<Object> group, Lifecycle unused) -> {
-						var data = new Data(groupId, group);
-						dataByRegistry.computeIfAbsent(registryKey, key -> new ArrayList<>()).add(data);
-					}
-					case DataResult.Error<?> error -> {
-						LOGGER.error("[Fabric] Couldn't parse tag alias group file '{}' from '{}': {}", groupId, resourcePath, error.message());
-					}
-					}
-				} catch (IOException | JsonParseException e) {
-					LOGGER.error("[Fabric] Couldn't parse tag alias group file '{}' from '{}'", groupId, resourcePath, e);
+	public CompletableFuture<Map<RegistryKey<? extends Registry<?>>, List<TagAliasLoader.Data>>> load(ResourceManager manager, Executor executor) {
+		List<RegistryKey<? extends Registry<?>>> registryKeys = registries.streamAllRegistryKeys().toList();
+		List<CompletableFuture<List<Data>>> futures = new ArrayList<>(registryKeys.size());
+
+		// Each registry has its own directory, so they can be scanned in parallel.
+		for (RegistryKey<? extends Registry<?>> registryKey : registryKeys) {
+			futures.add(CompletableFuture.supplyAsync(() -> load(manager, registryKey), executor));
+		}
+
+		return Util.combineSafe(futures).thenApply(dataLists -> {
+			Map<RegistryKey<? extends Registry<?>>, List<TagAliasLoader.Data>> dataByRegistry = new HashMap<>();
+
+			for (int i = 0; i < registryKeys.size(); i++) {
+				List<Data> dataList = dataLists.get(i);
+
+				if (!dataList.isEmpty()) {
+					dataByRegistry.put(registryKeys.get(i), dataList);
+				}
+			}
+
+			return dataByRegistry;
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Data> load(ResourceManager manager, RegistryKey<? extends Registry<?>> registryKey) {
+		List<Data> dataList = new ArrayList<>();
+		ResourceFinder resourceFinder = ResourceFinder.json(getDirectory(registryKey));
+
+		for (Map.Entry<Identifier, Resource> entry : resourceFinder.findResources(manager).entrySet()) {
+			Identifier resourcePath = entry.getKey();
+			Identifier groupId = resourceFinder.toResourceId(resourcePath);
+
+			try (Reader reader = entry.getValue().getReader()) {
+				JsonElement json = JsonParser.parseReader(reader);
+				Codec<TagAliasGroup<Object>> codec = TagAliasGroup.codec((RegistryKey<? extends Registry<Object>>) registryKey);
+
+				switch (codec.parse(JsonOps.INSTANCE, json)) {
+				case DataResult.Success(TagAliasGroup<Object> group, Lifecycle unused) -> {
+					dataList.add(new Data(groupId, group));
+				}
+				case DataResult.Error<?> error -> {
+					LOGGER.error("[Fabric] Couldn't parse tag alias group file '{}' from '{}': {}", groupId, resourcePath, error.message());
 				}
+				}
+			} catch (IOException | JsonParseException e) {
+				LOGGER.error("[Fabric] Couldn't parse tag alias group file '{}' from '{}'", groupId, resourcePath, e);
 			}
 		}
 
-		return dataByRegistry;
+		return dataList;
 	}
 
 	private static String getDirectory(RegistryKey<? extends Registry<?>> registryKey) {
@@ -114,42 +138,95 @@ public final class TagAliasLoader extends SinglePreparationResourceReloader<Map<
 	}
 
 	@Override
-	protected void apply(Map<RegistryKey<? extends Registry<?>>, List<TagAliasLoader.Data>> prepared, ResourceManager manager, Profiler profiler) {
-		for (Map.Entry<RegistryKey<? extends Registry<?>>, List<Data>> entry : prepared.entrySet()) {
-			Map<TagKey<?>, Set<TagKey<?>>> groupsByTag = new HashMap<>();
+	public CompletableFuture<Void> apply(Map<RegistryKey<? extends Registry<?>>, List<TagAliasLoader.Data>> prepared, ResourceManager manager, Executor executor) {
+		return CompletableFuture.runAsync(() -> {
+			for (Map.Entry<RegistryKey<? extends Registry<?>>, List<Data>> entry : prepared.entrySet()) {
+				Map<TagKey<?>, Set<TagKey<?>>> groupsByTag = mergeGroups(entry.getValue());
+				RegistryWrapper.Impl<?> wrapper = registries.getOrThrow(entry.getKey());
+
+				if (wrapper instanceof TagAliasEnabledRegistryWrapper aliasWrapper) {
+					aliasWrapper.fabric_loadTagAliases(groupsByTag);
+				} else {
+					throw new ClassCastException("[Fabric] Couldn't apply tag aliases to registry wrapper %s (%s) since it doesn't implement TagAliasEnabledRegistryWrapper"
+							.formatted(wrapper, entry.getKey().getValue()));
+				}
+			}
+		}, executor);
+	}
 
-			for (Data data : entry.getValue()) {
-				Set<TagKey<?>> group = new HashSet<>(data.group.tags());
+	/**
+	 * Merges all alias groups that share a tag, using a union-find over tag indices.
+	 *
+	 * @return a map from each aliased tag to its merged group; all tags in a group share the same set instance,
+	 * and groups of a single tag are left out
+	 */
+	private static Map<TagKey<?>, Set<TagKey<?>>> mergeGroups(List<Data> dataList) {
+		Object2IntMap<TagKey<?>> indices = new Object2IntOpenHashMap<>();
+		indices.defaultReturnValue(-1);
+		List<TagKey<?>> tags = new ArrayList<>();
+		IntArrayList parents = new IntArrayList();
+
+		for (Data data : dataList) {
+			int first = -1;
+
+			for (TagKey<?> tag : data.group.tags()) {
+				int index = indices.getInt(tag);
+
+				if (index == -1) {
+					index = tags.size();
+					indices.put(tag, index);
+					tags.add(tag);
+					parents.add(index);
+				}
 
-				for (TagKey<?> tag : data.group.tags()) {
-					Set<TagKey<?>> oldGroup = groupsByTag.get(tag);
+				if (first == -1) {
+					first = index;
+				} else {
+					union(parents, first, index);
+				}
+			}
+		}
+
+		Int2ObjectMap<Set<TagKey<?>>> groupsByRoot = new Int2ObjectOpenHashMap<>();
 
-					// If there's an old group...
-					if (oldGroup != null) {
-						// ...merge all of its tags into the current group...
-						group.addAll(oldGroup);
+		for (int i = 0; i < tags.size(); i++) {
+			groupsByRoot.computeIfAbsent(find(parents, i), root -> new HashSet<>()).add(tags.get(i));
+		}
 
-						// ...and replace the recorded group of each tag in the old group with the new group.
-						for (TagKey<?> other : oldGroup) {
-							groupsByTag.put(other, group);
-						}
-					}
+		Map<TagKey<?>, Set<TagKey<?>>> groupsByTag = new HashMap<>();
 
-					groupsByTag.put(tag, group);
-				}
+		for (int i = 0; i < tags.size(); i++) {
+			Set<TagKey<?>> group = groupsByRoot.get(find(parents, i));
+
+			// Skip any groups of one tag, we don't need to apply them.
+			if (group.size() > 1) {
+				groupsByTag.put(tags.get(i), group);
 			}
+		}
 
-			// Remove any groups of one tag, we don't need to apply them.
-			groupsByTag.values().removeIf(tags -> tags.size() == 1);
+		return groupsByTag;
+	}
 
-			RegistryWrapper.Impl<?> wrapper = registries.getOrThrow(entry.getKey());
+	private static int find(IntArrayList parents, int index) {
+		while (parents.getInt(index) != index) {
+			// Path halving: point each visited node at its grandparent.
+			int grandparent = parents.getInt(parents.getInt(index));
+			parents.set(index, grandparent);
+			index = grandparent;
+		}
 
-			if (wrapper instanceof TagAliasEnabledRegistryWrapper aliasWrapper) {
-				aliasWrapper.fabric_loadTagAliases(groupsByTag);
-			} else {
-				throw new ClassCastException("[Fabric] Couldn't apply tag aliases to registry wrapper %s (%s) since it doesn't implement TagAliasEnabledRegistryWrapper"
-						.formatted(wrapper, entry.getKey().getValue()));
-			}
+		return index;
+	}
+
+	private static void union(IntArrayList parents, int a, int b) {
+		int rootA = find(parents, a);
+		int rootB = find(parents, b);
+
+		// Keep the lowest index as the root so the result doesn't depend on merge order.
+		if (rootA < rootB) {
+			parents.set(rootB, rootA);
+		} else if (rootB < rootA) {
+			parents.set(rootA, rootB);
 		}
 	}
 
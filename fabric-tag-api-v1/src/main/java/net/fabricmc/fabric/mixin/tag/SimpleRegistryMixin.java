@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.Set;
 
 import com.google.common.collect.Sets;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spongepowered.asm.mixin.Final;
@@ -82,7 +83,8 @@ abstract class SimpleRegistryMixin<T> implements SimpleRegistryExtension, TagAli
 		uniqueAliasGroups.addAll(pendingTagAliasGroups.values());
 
 		for (Set<TagKey<?>> aliasGroup : uniqueAliasGroups) {
-			Set<RegistryEntry<T>> entries = Sets.newIdentityHashSet();
+			// Linked to keep the merged contents in a stable order.
+			Set<RegistryEntry<T>> entries = new ReferenceLinkedOpenHashSet<>();
 
 			// Fetch all entries from each tag.
 			for (TagKey<?> tag : aliasGroup) {
@@ -104,6 +106,7 @@ abstract class SimpleRegistryMixin<T> implements SimpleRegistryExtension, TagAli
 				}
 			}
 
+			// Materialize the merged contents once, shared by every tag in the group.
 			List<RegistryEntry<T>> entriesAsList = List.copyOf(entries);
 
 			// Replace the old entry list contents with the merged list.